@@ -0,0 +1,161 @@
+package org.betterx.bclib.benchmark;
+
+import org.betterx.bclib.api.v2.generator.BiomePicker;
+import org.betterx.bclib.api.v2.levelgen.biomes.BCLBiome;
+import org.betterx.bclib.api.v2.levelgen.biomes.BCLBiomeRegistry;
+import org.betterx.bclib.api.v2.levelgen.biomes.BCLBiomeSettings;
+import org.betterx.worlds.together.world.event.WorldBootstrap;
+
+import com.mojang.serialization.Lifecycle;
+import net.minecraft.SharedConstants;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.MappedRegistry;
+import net.minecraft.core.Registry;
+import net.minecraft.core.RegistryAccess;
+import net.minecraft.core.registries.Registries;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.Bootstrap;
+import net.minecraft.world.level.WorldGenLevel;
+import net.minecraft.world.level.biome.*;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.state.BlockState;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sets up just enough of the game to run worldgen code outside of a running server: the vanilla
+ * bootstrap, a biome registry with stub biomes and a matching {@link BCLBiome} registry.
+ */
+public final class BenchmarkBootstrap {
+    public static final String NAMESPACE = "bclib_benchmark";
+    private static boolean didBootstrap = false;
+
+    private BenchmarkBootstrap() {
+    }
+
+    public static synchronized void bootstrap() {
+        if (didBootstrap) return;
+        SharedConstants.tryDetectVersion();
+        Bootstrap.bootStrap();
+        didBootstrap = true;
+    }
+
+    /**
+     * Creates a picker with {@code count} biomes. Every second biome has an edge biome and every
+     * third biome has a sub-biome, so the edge and sub-biome code paths are part of the measurement.
+     *
+     * @param count    number of main biomes
+     * @param edgeSize size of the edges in blocks
+     * @return a rebuilt picker
+     */
+    public static BiomePicker createPicker(int count, int edgeSize) {
+        bootstrap();
+        MappedRegistry<Biome> biomes = new MappedRegistry<>(Registries.BIOME, Lifecycle.stable());
+        MappedRegistry<BCLBiome> bclBiomes = new MappedRegistry<>(
+                BCLBiomeRegistry.BCL_BIOMES_REGISTRY,
+                Lifecycle.stable()
+        );
+        Biome stub = createStubBiome();
+        Registry.register(biomes, ResourceKey.create(Registries.BIOME, BCLBiomeRegistry.EMPTY_BIOME.getID()), stub);
+
+        List<BCLBiome> mainBiomes = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            StubBiome biome = register(biomes, bclBiomes, stub, "biome_" + i, edgeSize);
+            if ((i & 1) == 0) {
+                biome.addEdge(register(biomes, bclBiomes, stub, "biome_" + i + "_edge", 0));
+            }
+            if (i % 3 == 0) {
+                biome.addSubBiome(register(biomes, bclBiomes, stub, "biome_" + i + "_sub", 0));
+            }
+            mainBiomes.add(biome);
+        }
+        setRegistryAccess(new RegistryAccess.ImmutableRegistryAccess(List.of(biomes, bclBiomes)).freeze());
+
+        BiomePicker picker = new BiomePicker(biomes);
+        mainBiomes.forEach(picker::addBiome);
+        picker.rebuild();
+        return picker;
+    }
+
+    /**
+     * @return A level that stores all placed blocks in a map and reports air everywhere else
+     */
+    public static WorldGenLevel createStubLevel() {
+        bootstrap();
+        final Map<BlockPos, BlockState> blocks = new HashMap<>();
+        final BlockState air = Blocks.AIR.defaultBlockState();
+        return (WorldGenLevel) Proxy.newProxyInstance(
+                BenchmarkBootstrap.class.getClassLoader(),
+                new Class[]{WorldGenLevel.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "getBlockState" -> blocks.getOrDefault((BlockPos) args[0], air);
+                    case "setBlock" -> {
+                        blocks.put(((BlockPos) args[0]).immutable(), (BlockState) args[1]);
+                        yield true;
+                    }
+                    case "isClientSide" -> false;
+                    case "getMinBuildHeight" -> -64;
+                    case "getMaxBuildHeight", "getHeight" -> 384;
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> "StubLevel";
+                    default -> null;
+                }
+        );
+    }
+
+    private static StubBiome register(
+            MappedRegistry<Biome> biomes,
+            MappedRegistry<BCLBiome> bclBiomes,
+            Biome stub,
+            String name,
+            int edgeSize
+    ) {
+        final ResourceLocation id = new ResourceLocation(NAMESPACE, name);
+        final StubBiome biome = new StubBiome(
+                id,
+                BCLBiomeSettings.createBCL().setEdgeSize(edgeSize).setGenChance(1).build()
+        );
+        Registry.register(biomes, ResourceKey.create(Registries.BIOME, id), stub);
+        Registry.register(bclBiomes, biome.getBCLBiomeKey(), biome);
+        return biome;
+    }
+
+    private static Biome createStubBiome() {
+        return new Biome.BiomeBuilder()
+                .hasPrecipitation(false)
+                .temperature(0.5f)
+                .downfall(0.0f)
+                .specialEffects(new BiomeSpecialEffects.Builder()
+                        .fogColor(0)
+                        .waterColor(0)
+                        .waterFogColor(0)
+                        .skyColor(0)
+                        .build())
+                .mobSpawnSettings(MobSpawnSettings.EMPTY)
+                .generationSettings(BiomeGenerationSettings.EMPTY)
+                .build();
+    }
+
+    private static void setRegistryAccess(RegistryAccess access) {
+        try {
+            Field field = WorldBootstrap.class.getDeclaredField("LAST_REGISTRY_ACCESS");
+            field.setAccessible(true);
+            field.set(null, access);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Unable to install the stub registries", e);
+        }
+    }
+
+    private static class StubBiome extends BCLBiome {
+        StubBiome(ResourceLocation biomeID, BCLBiomeSettings settings) {
+            super(biomeID, settings);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package org.betterx.bclib.benchmark;
+
+import org.betterx.bclib.api.v2.generator.BiomePicker;
+import org.betterx.bclib.api.v2.generator.map.MapStack;
+import org.betterx.bclib.api.v2.generator.map.hex.HexBiomeMap;
+import org.betterx.bclib.api.v2.generator.map.square.SquareBiomeMap;
+import org.betterx.bclib.interfaces.BiomeMap;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Samples one 4x4 quart column per invocation, the way a biome source is asked for the biomes of a
+ * chunk. The x/z origin moves with every call so the chunk caches see the same mix of hits and
+ * misses as during world generation.
+ * <p>
+ * To measure the exact edge probe path, run this benchmark with the map classes from before the edge
+ * distance field was added.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BiomeMapBenchmark {
+    @Param({"hex", "square", "stack"})
+    public String mapType;
+
+    @Param({"256"})
+    public int biomeSize;
+
+    @Param({"16"})
+    public int edgeSize;
+
+    private BiomeMap map;
+    private final BiomePicker.ActualBiome[] column = new BiomePicker.ActualBiome[16];
+    private int chunkX;
+    private int chunkZ;
+
+    @Setup
+    public void setup() {
+        BiomePicker picker = BenchmarkBootstrap.createPicker(24, edgeSize);
+        map = switch (mapType) {
+            case "hex" -> new HexBiomeMap(42, biomeSize, picker);
+            case "square" -> new SquareBiomeMap(42, biomeSize, picker);
+            case "stack" -> new MapStack(42, biomeSize, picker, 86, 256, HexBiomeMap::new);
+            default -> throw new IllegalArgumentException(mapType);
+        };
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(16)
+    public void getBiome(Blackhole bh) {
+        final int bx = chunkX << 4;
+        final int bz = chunkZ << 4;
+        for (int x = 0; x < 16; x += 4) {
+            for (int z = 0; z < 16; z += 4) {
+                bh.consume(map.getBiome(bx + x, 64, bz + z));
+            }
+        }
+        nextChunk();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(16)
+    public void fillBiomes(Blackhole bh) {
+        map.fillBiomes(chunkX << 2, 16, chunkZ << 2, 4, 4, column);
+        bh.consume(column);
+        nextChunk();
+    }
+
+    private void nextChunk() {
+        chunkX++;
+        if (chunkX > 64) {
+            chunkX = 0;
+            chunkZ++;
+        }
+    }
+}
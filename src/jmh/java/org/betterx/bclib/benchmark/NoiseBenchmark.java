@@ -0,0 +1,83 @@
+package org.betterx.bclib.benchmark;
+
+import org.betterx.bclib.noise.OpenSimplexNoise;
+import org.betterx.bclib.noise.VoronoiNoise;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NoiseBenchmark {
+    private static final int SIDE = 16;
+    private static final double STEP = 0.137;
+
+    private final double[] grid = new double[SIDE * SIDE];
+    private final double[] distances = new double[2];
+    private OpenSimplexNoise simplex;
+    private VoronoiNoise voronoi;
+
+    @Setup
+    public void setup() {
+        simplex = new OpenSimplexNoise(1234);
+        voronoi = new VoronoiNoise(1234);
+    }
+
+    @Benchmark
+    public void simplex2D(Blackhole bh) {
+        for (int x = 0; x < SIDE; x++) {
+            for (int z = 0; z < SIDE; z++) {
+                bh.consume(simplex.eval(x * STEP, z * STEP));
+            }
+        }
+    }
+
+    @Benchmark
+    public double[] simplex2DGrid() {
+        simplex.evalGrid2D(0, 0, STEP, SIDE, SIDE, grid);
+        return grid;
+    }
+
+    @Benchmark
+    public void simplex3D(Blackhole bh) {
+        for (int x = 0; x < SIDE; x++) {
+            for (int z = 0; z < SIDE; z++) {
+                bh.consume(simplex.eval(x * STEP, 12.5, z * STEP));
+            }
+        }
+    }
+
+    @Benchmark
+    public void simplex4D(Blackhole bh) {
+        for (int x = 0; x < SIDE; x++) {
+            for (int z = 0; z < SIDE; z++) {
+                bh.consume(simplex.eval(x * STEP, 12.5, z * STEP, 3.25));
+            }
+        }
+    }
+
+    @Benchmark
+    public void voronoi(Blackhole bh) {
+        for (int x = 0; x < SIDE; x++) {
+            for (int z = 0; z < SIDE; z++) {
+                bh.consume(voronoi.sample(x * STEP, 12.5, z * STEP));
+            }
+        }
+    }
+
+    @Benchmark
+    public void voronoiF1F2(Blackhole bh) {
+        for (int x = 0; x < SIDE; x++) {
+            for (int z = 0; z < SIDE; z++) {
+                voronoi.sampleF1F2(x * STEP, 12.5, z * STEP, distances);
+                bh.consume(distances[1] - distances[0]);
+            }
+        }
+    }
+}
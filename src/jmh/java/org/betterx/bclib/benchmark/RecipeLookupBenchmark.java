@@ -0,0 +1,98 @@
+package org.betterx.bclib.benchmark;
+
+import org.betterx.bclib.recipes.RecipeIndex;
+
+import net.minecraft.core.NonNullList;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.inventory.CraftingContainer;
+import net.minecraft.world.inventory.TransientCraftingContainer;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import net.minecraft.world.item.crafting.CraftingBookCategory;
+import net.minecraft.world.item.crafting.Ingredient;
+import net.minecraft.world.item.crafting.ShapedRecipe;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Looks up crafting recipes in a large, modpack sized recipe set, once the way the recipe manager did
+ * it before (test every recipe, sort the matches) and once through the {@link RecipeIndex}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RecipeLookupBenchmark {
+    @Param({"1000", "10000"})
+    public int recipeCount;
+
+    private Map<ResourceLocation, ShapedRecipe> recipes;
+    private RecipeIndex<CraftingContainer, ShapedRecipe> index;
+    private CraftingContainer[] grids;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        BenchmarkBootstrap.bootstrap();
+        final Random random = new Random(42);
+        final List<Item> items = new ArrayList<>();
+        BuiltInRegistries.ITEM.forEach(item -> {
+            if (item != Items.AIR) items.add(item);
+        });
+
+        recipes = new HashMap<>(recipeCount);
+        grids = new CraftingContainer[64];
+        for (int i = 0; i < recipeCount; i++) {
+            final NonNullList<Ingredient> pattern = NonNullList.withSize(9, Ingredient.EMPTY);
+            final NonNullList<ItemStack> grid = NonNullList.withSize(9, ItemStack.EMPTY);
+            for (int slot = 0; slot < 9; slot++) {
+                if (random.nextInt(3) == 0) continue;
+                final Item item = items.get(random.nextInt(items.size()));
+                pattern.set(slot, Ingredient.of(item));
+                grid.set(slot, new ItemStack(item));
+            }
+            final String namespace = i % 4 == 0 ? "minecraft" : "mod_" + (i % 7);
+            final ResourceLocation id = new ResourceLocation(namespace, "recipe_" + i);
+            recipes.put(id, new ShapedRecipe(
+                    id,
+                    "",
+                    CraftingBookCategory.MISC,
+                    3,
+                    3,
+                    pattern,
+                    new ItemStack(Items.STONE)
+            ));
+            if (i < grids.length) {
+                grids[i] = new TransientCraftingContainer(null, 3, 3, grid);
+            }
+        }
+        index = RecipeIndex.build(recipes);
+    }
+
+    private CraftingContainer nextGrid() {
+        next = (next + 1) & (grids.length - 1);
+        return grids[next];
+    }
+
+    @Benchmark
+    public Optional<ShapedRecipe> streamAndSort() {
+        final CraftingContainer grid = nextGrid();
+        return recipes.values()
+                      .stream()
+                      .filter(recipe -> recipe.matches(grid, null))
+                      .sorted(RecipeIndex.PRIORITY)
+                      .findFirst();
+    }
+
+    @Benchmark
+    public Optional<ShapedRecipe> index() {
+        return index.find(nextGrid(), null);
+    }
+}
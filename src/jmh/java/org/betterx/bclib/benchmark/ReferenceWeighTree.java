@@ -0,0 +1,42 @@
+package org.betterx.bclib.benchmark;
+
+import org.betterx.bclib.util.WeightedList;
+
+/**
+ * The tree of separators {@link org.betterx.bclib.util.WeighTree} used for every list before it got its
+ * guide table. Kept as the reference for {@link WeighTreeCheck} and {@link WeighTreeBenchmark}.
+ */
+class ReferenceWeighTree<T> {
+    private final Node<T> root;
+
+    ReferenceWeighTree(WeightedList<T> list) {
+        root = getNode(list, 0, list.size());
+    }
+
+    T get(float value) {
+        return root.get(value);
+    }
+
+    private static <T> Node<T> getNode(WeightedList<T> list, int start, int end) {
+        final int size = end - start;
+        if (size == 1) {
+            final T value = list.get(start);
+            return v -> value;
+        } else if (size == 2) {
+            final float separator = list.getWeight(start);
+            final T first = list.get(start);
+            final T second = list.get(start + 1);
+            return v -> v < separator ? first : second;
+        } else {
+            final int index = start + (size >> 1);
+            final float separator = list.getWeight(index);
+            final Node<T> a = getNode(list, start, index + 1);
+            final Node<T> b = getNode(list, index, end);
+            return v -> v < separator ? a.get(v) : b.get(v);
+        }
+    }
+
+    private interface Node<T> {
+        T get(float value);
+    }
+}
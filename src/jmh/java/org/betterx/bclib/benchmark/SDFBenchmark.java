@@ -0,0 +1,73 @@
+package org.betterx.bclib.benchmark;
+
+import org.betterx.bclib.sdf.CompiledSDF;
+import org.betterx.bclib.sdf.SDF;
+import org.betterx.bclib.sdf.operator.SDFSmoothUnion;
+import org.betterx.bclib.sdf.operator.SDFTranslate;
+import org.betterx.bclib.sdf.primitive.SDFCapsule;
+import org.betterx.bclib.sdf.primitive.SDFSphere;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Evaluates the distance of a small SDF tree over a 16x16x16 grid of voxels, once by walking the tree
+ * and once using the {@link SDF#compile() compiled} function.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SDFBenchmark {
+    protected static final int SIDE = 16;
+    protected SDF tree;
+    protected CompiledSDF compiled;
+
+    @Setup
+    public void setup() {
+        BenchmarkBootstrap.bootstrap();
+        tree = createTree();
+        compiled = tree.compile();
+    }
+
+    public static SDF createTree() {
+        SDF sphere = new SDFSphere().setRadius(6);
+        SDF capsule = new SDFTranslate()
+                .setTranslate(2, -4, 1)
+                .setSource(new SDFCapsule().setRadius(3).setHeight(10));
+        SDF secondSphere = new SDFTranslate()
+                .setTranslate(-4, 3, -2)
+                .setSource(new SDFSphere().setRadius(4));
+
+        SDF union = new SDFSmoothUnion().setRadius(3).setSourceA(sphere).setSourceB(capsule);
+        return new SDFSmoothUnion().setRadius(2).setSourceA(union).setSourceB(secondSphere);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIDE * SIDE * SIDE)
+    public void getDistance(Blackhole bh) {
+        for (int x = 0; x < SIDE; x++) {
+            for (int y = 0; y < SIDE; y++) {
+                for (int z = 0; z < SIDE; z++) {
+                    bh.consume(tree.getDistance(x - 8, y - 8, z - 8));
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIDE * SIDE * SIDE)
+    public void getCompiledDistance(Blackhole bh) {
+        for (int x = 0; x < SIDE; x++) {
+            for (int y = 0; y < SIDE; y++) {
+                for (int z = 0; z < SIDE; z++) {
+                    bh.consume(compiled.getDistance(x - 8, y - 8, z - 8));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package org.betterx.bclib.benchmark;
+
+import org.betterx.bclib.sdf.SDF;
+import org.betterx.bclib.sdf.operator.SDFSmoothUnion;
+import org.betterx.bclib.sdf.operator.SDFTranslate;
+import org.betterx.bclib.sdf.primitive.SDFCapsule;
+import org.betterx.bclib.sdf.primitive.SDFSphere;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.WorldGenLevel;
+import net.minecraft.world.level.block.Blocks;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Places an SDF island into a stub level, once using the flood fill and once using the bounded fill.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SDFFillBenchmark {
+    @Param({"8", "24"})
+    public int radius;
+
+    private SDF tree;
+    private WorldGenLevel level;
+    private final BlockPos center = new BlockPos(0, 64, 0);
+
+    @Setup(Level.Trial)
+    public void setupTree() {
+        BenchmarkBootstrap.bootstrap();
+        SDF sphere = new SDFSphere().setRadius(radius).setBlock(Blocks.END_STONE);
+        SDF capsule = new SDFTranslate()
+                .setTranslate(radius * 0.5F, -radius, 0)
+                .setSource(new SDFCapsule().setRadius(radius * 0.4F).setHeight(radius).setBlock(Blocks.STONE));
+        tree = new SDFSmoothUnion().setRadius(radius * 0.25F).setSourceA(sphere).setSourceB(capsule);
+    }
+
+    @Setup(Level.Invocation)
+    public void setupLevel() {
+        level = BenchmarkBootstrap.createStubLevel();
+    }
+
+    @Benchmark
+    public void fillRecursive() {
+        tree.fillRecursive(level, center);
+    }
+
+    @Benchmark
+    public void fillBounded() {
+        tree.fillBounded(level, center);
+    }
+}
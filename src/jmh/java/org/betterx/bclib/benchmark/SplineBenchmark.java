@@ -0,0 +1,39 @@
+package org.betterx.bclib.benchmark;
+
+import org.betterx.bclib.util.SplineHelper;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.WorldGenLevel;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.state.BlockState;
+
+import org.joml.Vector3f;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SplineBenchmark {
+    private List<Vector3f> spline;
+    private WorldGenLevel level;
+    private BlockState state;
+
+    @Setup
+    public void setup() {
+        BenchmarkBootstrap.bootstrap();
+        spline = SplineHelper.makeSpline(0, 0, 0, 24, 40, 12, 8);
+        level = BenchmarkBootstrap.createStubLevel();
+        state = Blocks.STONE.defaultBlockState();
+    }
+
+    @Benchmark
+    public boolean fillSpline() {
+        return SplineHelper.fillSpline(spline, level, state, BlockPos.ZERO, s -> true);
+    }
+}
@@ -0,0 +1,54 @@
+package org.betterx.bclib.benchmark;
+
+import org.betterx.bclib.util.WeighTree;
+import org.betterx.bclib.util.WeightedList;
+
+import net.minecraft.world.level.levelgen.LegacyRandomSource;
+import net.minecraft.world.level.levelgen.WorldgenRandom;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WeighTreeBenchmark {
+    @Param({"8", "64", "300"})
+    public int size;
+
+    private WeighTree<Integer> tree;
+    private ReferenceWeighTree<Integer> reference;
+    private WeightedList<Integer> list;
+    private WorldgenRandom random;
+
+    @Setup
+    public void setup() {
+        list = new WeightedList<>();
+        WorldgenRandom weights = new WorldgenRandom(new LegacyRandomSource(7));
+        for (int i = 0; i < size; i++) {
+            list.add(i, 0.1f + weights.nextFloat() * 10);
+        }
+        tree = new WeighTree<>(list);
+        reference = new ReferenceWeighTree<>(list);
+        random = new WorldgenRandom(new LegacyRandomSource(42));
+    }
+
+    @Benchmark
+    public Integer get() {
+        return tree.get(random);
+    }
+
+    @Benchmark
+    public Integer referenceTree() {
+        return reference.get(random.nextFloat() * list.getMaxWeight());
+    }
+
+    @Benchmark
+    public Integer weightedList() {
+        return list.get(random);
+    }
+}
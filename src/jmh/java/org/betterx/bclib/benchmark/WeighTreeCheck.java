@@ -0,0 +1,75 @@
+package org.betterx.bclib.benchmark;
+
+import org.betterx.bclib.util.WeighTree;
+import org.betterx.bclib.util.WeightedList;
+
+import net.minecraft.world.level.levelgen.LegacyRandomSource;
+import net.minecraft.world.level.levelgen.WorldgenRandom;
+
+import java.util.Random;
+
+/**
+ * Checks that {@link WeighTree} picks the same value as the {@link ReferenceWeighTree} for the same
+ * random number, and that the picked values follow the weights (chi-square test). Random weight sets
+ * include zero weights and single entries. Run it with "gradlew checkWeighTree".
+ */
+public class WeighTreeCheck {
+    private static final int LISTS = 200;
+    private static final int DRAWS = 400_000;
+
+    public static void main(String[] args) {
+        final Random setup = new Random(1234);
+        int failures = 0;
+        for (int n = 0; n < LISTS; n++) {
+            final int size = 1 + setup.nextInt(n < LISTS / 2 ? 8 : 300);
+            final float[] single = new float[size];
+            final WeightedList<Integer> list = new WeightedList<>();
+            for (int i = 0; i < size; i++) {
+                single[i] = setup.nextInt(5) == 0 ? 0 : 0.01F + setup.nextFloat() * 10;
+                list.add(i, single[i]);
+            }
+            if (list.getMaxWeight() <= 0) continue;
+
+            final WeighTree<Integer> tree = new WeighTree<>(list);
+            final ReferenceWeighTree<Integer> reference = new ReferenceWeighTree<>(list);
+            final WorldgenRandom random = new WorldgenRandom(new LegacyRandomSource(n));
+            final WorldgenRandom referenceRandom = new WorldgenRandom(new LegacyRandomSource(n));
+            final long[] counts = new long[size];
+            for (int d = 0; d < DRAWS; d++) {
+                final int value = tree.get(random);
+                final int expected = reference.get(referenceRandom.nextFloat() * list.getMaxWeight());
+                if (value != expected) {
+                    if (failures++ < 10) {
+                        System.out.println("List " + n + ", draw " + d + ": got " + value + ", expected " + expected);
+                    }
+                }
+                counts[value]++;
+            }
+
+            final double chiSquare = chiSquare(counts, single, list.getMaxWeight());
+            //degrees of freedom are at most size - 1, this bound is only exceeded with a tiny probability
+            final double limit = size + 6 * Math.sqrt(2 * size);
+            if (chiSquare > limit) {
+                failures++;
+                System.out.printf("List %d (%d values): chi-square %.1f above %.1f%n", n, size, chiSquare, limit);
+            }
+        }
+
+        System.out.println(failures == 0 ? "WeighTree check passed" : "WeighTree check failed: " + failures);
+        if (failures > 0) System.exit(1);
+    }
+
+    private static double chiSquare(long[] counts, float[] weights, float total) {
+        double result = 0;
+        for (int i = 0; i < counts.length; i++) {
+            final double expected = (double) weights[i] / total * DRAWS;
+            if (expected > 0) {
+                final double diff = counts[i] - expected;
+                result += diff * diff / expected;
+            } else if (counts[i] > 0) {
+                return Double.POSITIVE_INFINITY;
+            }
+        }
+        return result;
+    }
+}
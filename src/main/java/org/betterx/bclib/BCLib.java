@@ -24,6 +24,7 @@ import org.betterx.bclib.config.PathConfig;
 import org.betterx.bclib.networking.VersionChecker;
 import org.betterx.bclib.recipes.AlloyingRecipe;
 import org.betterx.bclib.recipes.AnvilRecipe;
+import org.betterx.bclib.recipes.BCLRecipeManager;
 import org.betterx.bclib.recipes.CraftingRecipes;
 import org.betterx.bclib.registry.BaseBlockEntities;
 import org.betterx.bclib.registry.BaseRegistry;
@@ -80,6 +81,7 @@ public class BCLib implements ModInitializer {
         BCLibEndBiomeSource.register();
         BCLibNetherBiomeSource.register();
         CraftingRecipes.init();
+        BCLRecipeManager.init();
         BCLStructurePoolElementTypes.ensureStaticallyLoaded();
         WorldConfig.registerModCache(MOD_ID);
         DataExchangeAPI.registerMod(MOD_ID);
@@ -102,7 +104,8 @@ public class BCLib implements ModInitializer {
                         HelloServer.DESCRIPTOR,
                         RequestFiles.DESCRIPTOR,
                         SendFiles.DESCRIPTOR,
-                        Chunker.DESCRIPTOR
+                        Chunker.DESCRIPTOR,
+                        ChunkerAck.DESCRIPTOR
                 )
         );
 
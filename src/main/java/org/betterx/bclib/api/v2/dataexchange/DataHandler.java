@@ -2,6 +2,7 @@ package org.betterx.bclib.api.v2.dataexchange;
 
 import org.betterx.bclib.BCLib;
 import org.betterx.bclib.api.v2.dataexchange.handler.autosync.Chunker;
+import org.betterx.bclib.api.v2.dataexchange.handler.autosync.ChunkerSource;
 
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.multiplayer.ClientPacketListener;
@@ -127,6 +128,22 @@ public abstract class DataHandler extends BaseDataHandler {
         }
     }
 
+    public static void _sendToClient(
+            ResourceLocation identifier,
+            MinecraftServer server,
+            Collection<ServerPlayer> players,
+            ChunkerSource source
+    ) {
+        if (source.size() > Chunker.MAX_PACKET_SIZE) {
+            final Chunker.PacketChunkSender sender = new Chunker.PacketChunkSender(source, identifier);
+            sender.sendChunks(players);
+        } else {
+            FriendlyByteBuf buf = PacketByteBufs.create();
+            source.read(0, source.size(), buf);
+            _sendToClient(identifier, server, players, buf);
+        }
+    }
+
     @Environment(EnvType.CLIENT)
     @Override
     void sendToServer(Minecraft client) {
@@ -265,6 +282,39 @@ public abstract class DataHandler extends BaseDataHandler {
 
         abstract protected void serializeDataOnServer(FriendlyByteBuf buf);
 
+        /**
+         * Creates the buffer that is sent to the clients. By default, this is a new buffer that was filled
+         * using {@link #serializeDataOnServer(FriendlyByteBuf)}. Handlers that send the same data to many
+         * clients can return a view of a prepared buffer instead.
+         *
+         * @return The data to send. The readable bytes are sent, the content of the buffer must not change.
+         */
+        protected FriendlyByteBuf createPayloadOnServer() {
+            FriendlyByteBuf buf = PacketByteBufs.create();
+            serializeDataOnServer(buf);
+            return buf;
+        }
+
+        /**
+         * Creates the data that is sent to the clients without writing the whole message to one buffer.
+         * Large messages are split by {@link Chunker}, which only reads the part of the source it is about
+         * to send. By default, this returns {@code null} and {@link #createPayloadOnServer()} is used.
+         *
+         * @return The data to send, or {@code null}
+         */
+        protected ChunkerSource createPayloadSourceOnServer() {
+            return null;
+        }
+
+        private void sendPayloadToClient(MinecraftServer server, Collection<ServerPlayer> players) {
+            final ChunkerSource source = createPayloadSourceOnServer();
+            if (source != null) {
+                _sendToClient(getIdentifier(), server, players, source);
+            } else {
+                _sendToClient(getIdentifier(), server, players, createPayloadOnServer());
+            }
+        }
+
         @Environment(EnvType.CLIENT)
         abstract protected void deserializeIncomingDataOnClient(FriendlyByteBuf buf, PacketSender responseSender);
 
@@ -306,20 +356,14 @@ public abstract class DataHandler extends BaseDataHandler {
         @Override
         final void sendToClient(MinecraftServer server) {
             if (prepareDataOnServer()) {
-                FriendlyByteBuf buf = PacketByteBufs.create();
-                serializeDataOnServer(buf);
-
-                _sendToClient(getIdentifier(), server, PlayerLookup.all(server), buf);
+                sendPayloadToClient(server, PlayerLookup.all(server));
             }
         }
 
         @Override
         final void sendToClient(MinecraftServer server, ServerPlayer player) {
             if (prepareDataOnServer()) {
-                FriendlyByteBuf buf = PacketByteBufs.create();
-                serializeDataOnServer(buf);
-
-                _sendToClient(getIdentifier(), server, List.of(player), buf);
+                sendPayloadToClient(server, List.of(player));
             }
         }
 
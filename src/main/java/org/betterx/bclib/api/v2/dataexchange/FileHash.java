@@ -4,10 +4,13 @@ import org.betterx.bclib.BCLib;
 
 import net.minecraft.network.FriendlyByteBuf;
 
+import java.io.EOFException;
 import java.io.File;
 import java.io.IOException;
-import java.nio.file.Files;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.Arrays;
@@ -17,6 +20,7 @@ import org.jetbrains.annotations.NotNull;
 public class FileHash {
     private static final int ERR_DOES_NOT_EXIST = -10;
     private static final int ERR_IO_ERROR = -20;
+    private static final ThreadLocal<ByteBuffer> BUFFER = ThreadLocal.withInitial(() -> ByteBuffer.allocateDirect(64 * 1024));
 
     /**
      * The md5-hash of the file
@@ -102,6 +106,8 @@ public class FileHash {
 
     /**
      * Create a new {@link FileHash}.
+     * <p>
+     * Hashes are cached by path, size and modification time, so an unchanged file is only read once.
      *
      * @param file The input file
      * @return A new Instance. You can compare instances using {@link #equals(Object)} to determine if two files are
@@ -109,35 +115,49 @@ public class FileHash {
      */
     public static FileHash create(File file) {
         if (!file.exists()) return createForEmpty(ERR_DOES_NOT_EXIST);
-        final Path path = file.toPath();
-
-        int size = 0;
-        byte[] md5 = new byte[0];
-        int value = 0;
-
-        try {
-            byte[] data = Files.readAllBytes(path);
+        return FileHashCache.get(file.toPath());
+    }
 
-            size = data.length;
+    /**
+     * Hashes the file without reading it into memory.
+     */
+    static FileHash compute(Path path) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final int size = (int) channel.size();
 
-            value = size > 0 ? (data[size / 3] | (data[size / 2] << 8) | (data[size / 5] << 16)) : -1;
-            if (size > 20) value |= data[20] << 24;
+            int value = -1;
+            if (size > 0) {
+                value = byteAt(channel, size / 3) | (byteAt(channel, size / 2) << 8) | (byteAt(channel, size / 5) << 16);
+                if (size > 20) value |= byteAt(channel, 20) << 24;
+            }
 
             MessageDigest md = MessageDigest.getInstance("MD5");
-            md.update(data);
-            md5 = md.digest();
-
-            return new FileHash(md5, size, value);
+            final ByteBuffer buffer = BUFFER.get();
+            buffer.clear();
+            while (channel.read(buffer) > 0) {
+                buffer.flip();
+                md.update(buffer);
+                buffer.clear();
+            }
+
+            return new FileHash(md.digest(), size, value);
         } catch (IOException e) {
-            BCLib.LOGGER.error("Failed to read file: " + file);
+            BCLib.LOGGER.error("Failed to read file: " + path);
             return null;
         } catch (NoSuchAlgorithmException e) {
-            BCLib.LOGGER.error("Unable to build hash for file: " + file);
+            BCLib.LOGGER.error("Unable to build hash for file: " + path);
         }
 
         return createForEmpty(ERR_IO_ERROR);
     }
 
+    //sign extended like the value of a byte from an array
+    private static byte byteAt(FileChannel channel, long position) throws IOException {
+        final ByteBuffer single = ByteBuffer.allocate(1);
+        if (channel.read(single, position) < 1) throw new EOFException();
+        return single.get(0);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -0,0 +1,132 @@
+package org.betterx.bclib.api.v2.dataexchange;
+
+import org.betterx.bclib.BCLib;
+import org.betterx.worlds.together.util.PathUtil;
+
+import net.minecraft.Util;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.NbtIo;
+import net.minecraft.nbt.Tag;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Remembers the {@link FileHash} of files by path, size and modification time, so unchanged files
+ * are not hashed again. The cache is stored in the game folder and survives restarts.
+ */
+class FileHashCache {
+    private static final File CACHE_FILE = PathUtil.GAME_FOLDER.resolve(".bclib_cache")
+                                                               .resolve("file_hashes.nbt")
+                                                               .toFile();
+    //a file that is changed in the same tick of the file system clock it was hashed in keeps its mtime
+    private static final long MTIME_GRANULARITY = 2000;
+
+    private static final Map<String, Entry> ENTRIES = new ConcurrentHashMap<>();
+    private static final AtomicBoolean SAVE_SCHEDULED = new AtomicBoolean();
+    private static volatile boolean didLoad = false;
+
+    private record Entry(long size, long modified, long hashed, FileHash hash) {
+        boolean matches(BasicFileAttributes attributes) {
+            return size == attributes.size()
+                    && modified == attributes.lastModifiedTime().toMillis()
+                    && hashed - modified > MTIME_GRANULARITY;
+        }
+    }
+
+    /**
+     * @param path The file to hash
+     * @return The hash of the file, or {@code null} if it could not be read
+     */
+    static FileHash get(Path path) {
+        load();
+        final BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        } catch (IOException e) {
+            return FileHash.compute(path);
+        }
+
+        final String key = path.toAbsolutePath().normalize().toString();
+        final Entry cached = ENTRIES.get(key);
+        if (cached != null && cached.matches(attributes)) return cached.hash;
+
+        final long hashed = System.currentTimeMillis();
+        final FileHash hash = FileHash.compute(path);
+        if (hash != null && !hash.noFile()) {
+            ENTRIES.put(key, new Entry(
+                    attributes.size(),
+                    attributes.lastModifiedTime().toMillis(),
+                    hashed,
+                    hash
+            ));
+            scheduleSave();
+        }
+        return hash;
+    }
+
+    private static synchronized void load() {
+        if (didLoad) return;
+        didLoad = true;
+        if (!CACHE_FILE.exists()) return;
+
+        try {
+            final CompoundTag root = NbtIo.readCompressed(CACHE_FILE);
+            for (Tag tag : root.getList("entries", Tag.TAG_COMPOUND)) {
+                final CompoundTag entry = (CompoundTag) tag;
+                final String path = entry.getString("path");
+                //files that were deleted or renamed since the cache was written
+                if (!new File(path).isFile()) continue;
+                ENTRIES.put(path, new Entry(
+                        entry.getLong("size"),
+                        entry.getLong("modified"),
+                        entry.getLong("hashed"),
+                        new FileHash(entry.getByteArray("md5"), entry.getInt("hashSize"), entry.getInt("value"))
+                ));
+            }
+        } catch (IOException e) {
+            BCLib.LOGGER.warning("Failed to read file hash cache: " + e.getMessage());
+        }
+    }
+
+    private static void scheduleSave() {
+        if (SAVE_SCHEDULED.compareAndSet(false, true)) {
+            Util.ioPool().execute(() -> {
+                SAVE_SCHEDULED.set(false);
+                save();
+            });
+        }
+    }
+
+    private static synchronized void save() {
+        ENTRIES.keySet().removeIf(path -> !new File(path).isFile());
+        final ListTag list = new ListTag();
+        ENTRIES.forEach((path, entry) -> {
+            final CompoundTag tag = new CompoundTag();
+            tag.putString("path", path);
+            tag.putLong("size", entry.size);
+            tag.putLong("modified", entry.modified);
+            tag.putLong("hashed", entry.hashed);
+            tag.putByteArray("md5", entry.hash.md5);
+            tag.putInt("hashSize", entry.hash.size);
+            tag.putInt("value", entry.hash.value);
+            list.add(tag);
+        });
+
+        final CompoundTag root = new CompoundTag();
+        root.put("entries", list);
+        try {
+            CACHE_FILE.getParentFile().mkdirs();
+            NbtIo.writeCompressed(root, CACHE_FILE);
+        } catch (IOException e) {
+            BCLib.LOGGER.warning("Failed to write file hash cache: " + e.getMessage());
+        }
+    }
+}
@@ -26,9 +26,9 @@ class AutoFileSyncEntry extends AutoSyncID {
         }
 
         @Override
-        public int serializeContent(FriendlyByteBuf buf) {
-            int res = super.serializeContent(buf);
-            DataHandler.writeString(buf, relFile.toString());
+        public int serializeContent(ChunkerSource.Builder out) {
+            int res = super.serializeContent(out);
+            DataHandler.writeString(out.buffer(), relFile.toString());
 
             return res;
         }
@@ -86,9 +86,9 @@ class AutoFileSyncEntry extends AutoSyncID {
         }
 
         @Override
-        public int serializeContent(FriendlyByteBuf buf) {
-            final int res = super.serializeContent(buf);
-            buf.writeInt(ModUtil.convertModVersion(version));
+        public int serializeContent(ChunkerSource.Builder out) {
+            final int res = super.serializeContent(out);
+            out.buffer().writeInt(ModUtil.convertModVersion(version));
             return res;
         }
 
@@ -150,10 +150,16 @@ class AutoFileSyncEntry extends AutoSyncID {
         return new byte[0];
     }
 
-    public int serializeContent(FriendlyByteBuf buf) {
-        DataHandler.writeString(buf, modID);
-        DataHandler.writeString(buf, uniqueID);
-        return serializeFileContent(buf);
+    /**
+     * Adds the entry and the content of the file to a message. The file is only read when the part of
+     * the message that contains it is sent.
+     *
+     * @return The size of the file content
+     */
+    public int serializeContent(ChunkerSource.Builder out) {
+        DataHandler.writeString(out.buffer(), modID);
+        DataHandler.writeString(out.buffer(), uniqueID);
+        return serializeFileContent(out);
     }
 
     public static Triple<AutoFileSyncEntry, byte[], AutoSyncID> deserializeContent(FriendlyByteBuf buf) {
@@ -200,19 +206,40 @@ class AutoFileSyncEntry extends AutoSyncID {
     }
 
     private int serializeFileContent(FriendlyByteBuf buf) {
+        final ChunkerSource.Builder out = new ChunkerSource.Builder();
+        final int size = serializeFileContent(out);
+        final ChunkerSource source = out.build();
+        buf.ensureWritable(source.size());
+        source.read(0, source.size(), buf);
+        return size;
+    }
+
+    private int serializeFileContent(ChunkerSource.Builder out) {
         if (!org.betterx.worlds.together.util.PathUtil.isChildOf(
                 org.betterx.worlds.together.util.PathUtil.GAME_FOLDER,
                 fileName.toPath()
         )) {
             BCLib.LOGGER.error(fileName + " is not within game folder " + PathUtil.GAME_FOLDER + ". Pretending it does not exist.");
-            buf.writeInt(0);
+            out.buffer().writeInt(0);
             return 0;
         }
 
-        byte[] content = getContent();
-        buf.writeInt(content.length);
-        buf.writeByteArray(content);
-        return content.length;
+        //same layout as writeInt + writeByteArray, but the file is read when this part is sent
+        if (fileName.exists()) {
+            try {
+                final int size = (int) Files.size(fileName.toPath());
+                out.buffer().writeInt(size);
+                out.buffer().writeVarInt(size);
+                out.add(ChunkerSource.ofFile(fileName.toPath(), size));
+                return size;
+            } catch (IOException e) {
+                BCLib.LOGGER.error("Failed to read " + fileName + ": " + e.getMessage());
+            }
+        }
+
+        out.buffer().writeInt(0);
+        out.buffer().writeByteArray(new byte[0]);
+        return 0;
     }
 
     private static byte[] deserializeFileContent(FriendlyByteBuf buf) {
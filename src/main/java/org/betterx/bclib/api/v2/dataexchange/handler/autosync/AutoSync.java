@@ -157,7 +157,7 @@ public class AutoSync {
     //we call this from HelloClient on the Server to prepare transfer
     protected static void loadSyncFolder() {
         if (Configs.SERVER_CONFIG.isOfferingFiles()) {
-            syncFolderDescriptions.forEach(desc -> desc.loadCache());
+            syncFolderDescriptions.forEach(desc -> desc.refreshCache());
         }
 
         if (!didRegisterAdditionalMods && Configs.SERVER_CONFIG.isOfferingMods()) {
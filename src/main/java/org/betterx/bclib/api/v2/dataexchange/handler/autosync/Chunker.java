@@ -2,10 +2,13 @@ package org.betterx.bclib.api.v2.dataexchange.handler.autosync;
 
 import org.betterx.bclib.BCLib;
 import org.betterx.bclib.api.v2.dataexchange.BaseDataHandler;
+import org.betterx.bclib.api.v2.dataexchange.DataExchangeAPI;
 import org.betterx.bclib.api.v2.dataexchange.DataHandler;
 import org.betterx.bclib.api.v2.dataexchange.DataHandlerDescriptor;
 import org.betterx.bclib.api.v2.dataexchange.handler.DataExchange;
+import org.betterx.bclib.config.Configs;
 
+import net.minecraft.Util;
 import net.minecraft.client.Minecraft;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.resources.ResourceLocation;
@@ -16,7 +19,16 @@ import net.fabricmc.fabric.api.networking.v1.PacketByteBufs;
 import net.fabricmc.fabric.api.networking.v1.PacketSender;
 import net.fabricmc.fabric.api.networking.v1.ServerPlayNetworking;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+
+import java.io.IOException;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -25,6 +37,12 @@ import org.jetbrains.annotations.Nullable;
  * <p>
  * {@link DataHandler} will automatically convert larger messages into Chunks on the Server
  * and assemble the original message from those chunks on the client.
+ * <p>
+ * Clients that reported {@link #VERSION} in their {@link HelloServer} message get every chunk compressed
+ * on its own with a {@link ChunkerCodec}, right before it is sent. The server only keeps {@link #WINDOW}
+ * chunks per player in flight and sends the next chunks when the client acknowledges the received ones
+ * with a {@link ChunkerAck}, so a large transfer does not flood the connection. All other clients get the
+ * uncompressed chunks at once, like older versions of BCLib sent them.
  */
 public class Chunker extends DataHandler.FromServer {
 
@@ -37,35 +55,45 @@ public class Chunker extends DataHandler.FromServer {
         public final UUID uuid;
         public final int chunkCount;
         @NotNull
-        private final FriendlyByteBuf networkedBuf;
+        private final ByteBuf networkedBuf;
         @Nullable
         private final DataHandlerDescriptor descriptor;
-
-        private static final List<PacketChunkReceiver> active = new ArrayList<>(1);
-
-        private static PacketChunkReceiver newReceiver(@NotNull UUID uuid, int chunkCount, ResourceLocation origin) {
+        private final int version;
+        private final int size;
+
+        private static final Map<UUID, PacketChunkReceiver> active = new ConcurrentHashMap<>();
+
+        private static PacketChunkReceiver create(
+                @NotNull UUID uuid,
+                int chunkCount,
+                ResourceLocation origin,
+                int version,
+                int size
+        ) {
             DataHandlerDescriptor desc = DataExchange.getDescriptor(origin);
-            final PacketChunkReceiver r = new PacketChunkReceiver(uuid, chunkCount, desc);
-            active.add(r);
+            final PacketChunkReceiver r = new PacketChunkReceiver(uuid, chunkCount, desc, version, size);
+            active.put(uuid, r);
             return r;
         }
 
-        private static PacketChunkReceiver getOrCreate(@NotNull UUID uuid, int chunkCount, ResourceLocation origin) {
-            return active.stream()
-                         .filter(r -> r.uuid.equals(uuid))
-                         .findFirst()
-                         .orElse(newReceiver(uuid, chunkCount, origin));
-        }
-
         public static PacketChunkReceiver get(@NotNull UUID uuid) {
-            return active.stream().filter(r -> r.uuid.equals(uuid)).findFirst().orElse(null);
+            return active.get(uuid);
         }
 
-        private PacketChunkReceiver(@NotNull UUID uuid, int chunkCount, @Nullable DataHandlerDescriptor descriptor) {
+        private PacketChunkReceiver(
+                @NotNull UUID uuid,
+                int chunkCount,
+                @Nullable DataHandlerDescriptor descriptor,
+                int version,
+                int size
+        ) {
             this.uuid = uuid;
             this.chunkCount = chunkCount;
-            networkedBuf = PacketByteBufs.create();
             this.descriptor = descriptor;
+            this.version = version;
+            this.size = size;
+            //older servers do not announce the size, so the buffer has to grow
+            networkedBuf = size >= 0 ? Unpooled.buffer(size, size) : Unpooled.buffer();
         }
 
         @Override
@@ -84,112 +112,255 @@ public class Chunker extends DataHandler.FromServer {
         public boolean testFinished() {
             ProgressListener listener = ChunkerProgress.getProgressListener();
             if (listener != null) {
-                listener.progressStagePercentage((100 * receivedCount) / chunkCount);
+                listener.progressStagePercentage((100 * receivedCount.get()) / chunkCount);
             }
-            if (incomingBuffer == null) {
+            if (finished.get()) {
                 return true;
             }
-            if (lastReadSerial >= chunkCount - 1) {
+            if (receivedCount.get() >= chunkCount && finished.compareAndSet(false, true)) {
                 onFinish();
                 return true;
             }
             return false;
         }
 
-        private void addBuffer(FriendlyByteBuf input) {
-            final int size = input.readableBytes();
-            final int cap = networkedBuf.capacity() - networkedBuf.writerIndex();
+        protected void onFinish() {
+            active.remove(uuid);
+            if (failed) {
+                BCLib.LOGGER.error("Dropping incomplete Packet-Chunk Transfer " + uuid);
+                return;
+            }
+            networkedBuf.writerIndex(size >= 0 ? size : receivedSize);
 
-            if (cap < size) {
-                networkedBuf.capacity(networkedBuf.writerIndex() + size);
+            if (descriptor == null) {
+                BCLib.LOGGER.error("Unknown receiver for Packet-Chunk Transfer " + uuid);
+                return;
+            }
+            final BaseDataHandler baseHandler = descriptor.INSTANCE.get();
+            if (baseHandler instanceof DataHandler.FromServer handler) {
+                handler.receiveFromMemory(new FriendlyByteBuf(networkedBuf));
             }
-            input.readBytes(networkedBuf, size);
-            input.clear();
         }
 
-        protected void onFinish() {
-            incomingBuffer.clear();
-            incomingBuffer = null;
+        private final AtomicInteger receivedCount = new AtomicInteger();
+        private final AtomicBoolean finished = new AtomicBoolean();
+        private int receivedSize = 0;
+        private volatile boolean failed = false;
 
-            final BaseDataHandler baseHandler = descriptor.INSTANCE.get();
-            if (baseHandler instanceof DataHandler.FromServer handler) {
-                handler.receiveFromMemory(networkedBuf);
+        public void processReceived(FriendlyByteBuf buf, int serialNo) {
+            if (version >= 1) {
+                processEncoded(buf, serialNo);
+            } else {
+                final int size = buf.readInt();
+                store(buf, serialNo * LEGACY_PAYLOAD_SIZE, size, serialNo);
+            }
+
+            final int received = receivedCount.incrementAndGet();
+            if (version >= 1) {
+                DataExchangeAPI.send(new ChunkerAck(uuid, received));
             }
         }
 
-        Map<Integer, FriendlyByteBuf> incomingBuffer = new HashMap<>();
-        int lastReadSerial = -1;
-        int receivedCount = 0;
+        private void processEncoded(FriendlyByteBuf buf, int serialNo) {
+            final byte codecID = buf.readByte();
+            final int decodedSize = buf.readInt();
+            final int encodedSize = buf.readInt();
+            final ChunkerCodec codec = CODECS.get(codecID);
+            if (codec == null) {
+                BCLib.LOGGER.error("Unknown codec " + codecID + " for Packet-Chunk Transfer " + uuid);
+                failed = true;
+                return;
+            }
 
-        public void processReceived(FriendlyByteBuf buf, int serialNo, int size) {
-            receivedCount++;
+            final ByteBuf decoded;
+            try {
+                decoded = codec.decode(buf.readSlice(encodedSize), decodedSize);
+            } catch (IOException e) {
+                BCLib.LOGGER.error("Failed to decode Packet-Chunk " + serialNo + " of " + uuid + ": " + e.getMessage());
+                failed = true;
+                return;
+            }
+            store(decoded, serialNo * PAYLOAD_SIZE, decodedSize, serialNo);
+        }
 
-            if (lastReadSerial == serialNo - 1) {
-                addBuffer(buf);
-                lastReadSerial = serialNo;
-            } else {
-                //not sure if order is guaranteed by the underlying system!
-                boolean haveAll = true;
-                for (int nr = lastReadSerial + 1; nr < serialNo - 1; nr++) {
-                    if (incomingBuffer.get(nr) == null) {
-                        haveAll = false;
-                        break;
-                    }
+        private void store(ByteBuf data, int offset, int size, int serialNo) {
+            //every chunk has a fixed place in the buffer, so the order in which they arrive does not matter
+            synchronized (networkedBuf) {
+                if (offset + size > networkedBuf.maxCapacity()) {
+                    BCLib.LOGGER.error("Packet-Chunk " + serialNo + " of " + uuid + " is out of bounds");
+                    failed = true;
+                    return;
                 }
-
-                if (haveAll) {
-                    for (int nr = lastReadSerial + 1; nr < serialNo - 1; nr++) {
-                        addBuffer(incomingBuffer.get(nr));
-                        incomingBuffer.put(nr, null);
-                    }
-                    addBuffer(buf);
-                    lastReadSerial = serialNo;
-                } else {
-                    incomingBuffer.put(serialNo, buf);
+                if (offset + size > networkedBuf.capacity()) {
+                    networkedBuf.capacity(offset + size);
                 }
+                networkedBuf.setBytes(offset, data, data.readerIndex(), size);
+                receivedSize = Math.max(receivedSize, offset + size);
             }
         }
     }
 
     /**
-     * Responsible for splitting an outgoing ByteBuffer into several smaller Chunks and
+     * Responsible for splitting an outgoing ByteBuffer (or {@link ChunkerSource}) into several smaller Chunks and
      * send them as seperate messages to the {@link Chunker}-Channel
      */
     public static class PacketChunkSender {
-        private final FriendlyByteBuf networkedBuf;
+        private static final Map<UUID, PacketChunkSender> active = new ConcurrentHashMap<>();
+        //the chunker version each client reported in its HelloServer message
+        private static final Map<ServerPlayer, Integer> clientVersions = Collections.synchronizedMap(new WeakHashMap<>());
+
+        private final ChunkerSource source;
         public final UUID uuid;
         public final int chunkCount;
         public final int size;
         public final ResourceLocation origin;
+        private final ChunkerCodec codec;
+        private final Map<UUID, PlayerProgress> players = new HashMap<>();
+        //every chunk is encoded once, when the first player needs it, and then sent to all players
+        private final AtomicReferenceArray<CompletableFuture<FriendlyByteBuf>> encodedChunks;
+
+        private static class PlayerProgress {
+            final ServerPlayer player;
+            int sent = 0;
+            int acknowledged = 0;
+
+            PlayerProgress(ServerPlayer player) {
+                this.player = player;
+            }
+        }
 
         public PacketChunkSender(FriendlyByteBuf buf, ResourceLocation origin) {
-            networkedBuf = buf;
+            this(ChunkerSource.of(buf), origin);
+        }
 
-            size = buf.readableBytes();
-            chunkCount = (int) Math.ceil((double) size / MAX_PAYLOAD_SIZE);
+        public PacketChunkSender(ChunkerSource source, ResourceLocation origin) {
+            this.source = source;
+            size = source.size();
+            //chunks are encoded one by one when they are sent, see serializeDataOnServer
+            codec = Configs.SERVER_CONFIG.isCompressingTransfers() ? outgoingCodec : ChunkerCodec.NONE;
+            chunkCount = (int) Math.ceil((double) size / PAYLOAD_SIZE);
+            encodedChunks = new AtomicReferenceArray<>(chunkCount);
             uuid = UUID.randomUUID();
             this.origin = origin;
         }
 
+        static void setClientVersion(ServerPlayer player, int version) {
+            clientVersions.put(player, version);
+        }
+
         public void sendChunks(Collection<ServerPlayer> players) {
-            BCLib.LOGGER.info("Sending Request in " + chunkCount + " Packet-Chunks");
-            for (int i = -1; i < chunkCount; i++) {
-                Chunker c = new Chunker(i, uuid, networkedBuf, chunkCount, origin);
+            active.values().removeIf(PacketChunkSender::isAbandoned);
+
+            BCLib.LOGGER.info("Sending Request in " + chunkCount + " Packet-Chunks (" + size + " bytes)");
+            for (ServerPlayer player : players) {
+                if (clientVersions.getOrDefault(player, 0) < 1) {
+                    sendLegacy(player);
+                    continue;
+                }
+                PlayerProgress progress = new PlayerProgress(player);
+                this.players.put(player.getUUID(), progress);
+                send(player, -1);
+                sendWindow(progress);
+            }
+            if (!this.players.isEmpty()) {
+                active.put(uuid, this);
+            }
+        }
+
+        //older clients read uncompressed chunks and never acknowledge them
+        private void sendLegacy(ServerPlayer player) {
+            final int legacyChunkCount = (int) Math.ceil((double) size / LEGACY_PAYLOAD_SIZE);
+            for (int i = -1; i < legacyChunkCount; i++) {
+                Chunker c = new Chunker(0, i, uuid, source, legacyChunkCount, origin, ChunkerCodec.NONE);
                 FriendlyByteBuf buf = PacketByteBufs.create();
                 c.serializeDataOnServer(buf);
+                ServerPlayNetworking.send(player, DESCRIPTOR.IDENTIFIER, buf);
+            }
+        }
 
-                for (ServerPlayer player : players) {
-                    ServerPlayNetworking.send(player, DESCRIPTOR.IDENTIFIER, buf);
+        private void send(ServerPlayer player, int serialNo) {
+            final FriendlyByteBuf buf;
+            if (serialNo == -1) {
+                buf = serialize(serialNo);
+            } else {
+                //copy does not move the indices of the shared chunk
+                buf = PacketByteBufs.copy(encodedChunk(serialNo));
+            }
+            ServerPlayNetworking.send(player, DESCRIPTOR.IDENTIFIER, buf);
+        }
+
+        private FriendlyByteBuf encodedChunk(int serialNo) {
+            final CompletableFuture<FriendlyByteBuf> created = new CompletableFuture<>();
+            if (encodedChunks.compareAndSet(serialNo, null, created)) {
+                try {
+                    created.complete(serialize(serialNo));
+                } catch (RuntimeException e) {
+                    created.completeExceptionally(e);
                 }
             }
+            //other players wait for the thread that encodes the chunk
+            return encodedChunks.get(serialNo).join();
+        }
+
+        private FriendlyByteBuf serialize(int serialNo) {
+            Chunker c = new Chunker(VERSION, serialNo, uuid, source, chunkCount, origin, codec);
+            FriendlyByteBuf buf = PacketByteBufs.create();
+            c.serializeDataOnServer(buf);
+            return buf;
+        }
+
+        private void sendWindow(PlayerProgress progress) {
+            while (progress.sent < chunkCount && progress.sent - progress.acknowledged < WINDOW) {
+                final int serialNo = progress.sent++;
+                //encoding a chunk takes a while, so it does not happen on the server thread
+                Util.backgroundExecutor().execute(() -> send(progress.player, serialNo));
+            }
+        }
+
+        private boolean isAbandoned() {
+            players.values().removeIf(p -> p.player.hasDisconnected());
+            return players.isEmpty();
+        }
+
+        static void acknowledge(UUID uuid, ServerPlayer player, int received) {
+            final PacketChunkSender sender = active.get(uuid);
+            if (sender == null) return;
+
+            final PlayerProgress progress = sender.players.get(player.getUUID());
+            if (progress == null) return;
+
+            progress.acknowledged = Math.max(progress.acknowledged, received);
+            if (progress.acknowledged >= sender.chunkCount) {
+                sender.players.remove(player.getUUID());
+                if (sender.players.isEmpty()) active.remove(uuid);
+            } else {
+                sender.sendWindow(progress);
+            }
         }
     }
 
     //header = version + UUID + serialNo + size, see serializeDataOnServer
-    private static final int HEADER_SIZE = 1 + 16 + 4 + 4;
+    private static final int LEGACY_HEADER_SIZE = 1 + 16 + 4 + 4;
+    //header = version + UUID + serialNo + codec + decoded size + encoded size, see serializeDataOnServer
+    private static final int HEADER_SIZE = 1 + 16 + 4 + 1 + 4 + 4;
+    /**
+     * The version of the chunk format. Clients send the version they can read in {@link HelloServer}.
+     */
+    static final byte VERSION = 1;
 
     public static final int MAX_PACKET_SIZE = 1024 * 1024;
-    private static final int MAX_PAYLOAD_SIZE = MAX_PACKET_SIZE - HEADER_SIZE;
+    private static final int LEGACY_PAYLOAD_SIZE = MAX_PACKET_SIZE - LEGACY_HEADER_SIZE;
+    private static final int PAYLOAD_SIZE = MAX_PACKET_SIZE - HEADER_SIZE;
+    /**
+     * The number of chunks that may be sent to a player before they were acknowledged.
+     */
+    public static final int WINDOW = 8;
+
+    private static final Map<Byte, ChunkerCodec> CODECS = new ConcurrentHashMap<>(Map.of(
+            ChunkerCodec.NONE.id(), ChunkerCodec.NONE,
+            ChunkerCodec.DEFLATE.id(), ChunkerCodec.DEFLATE
+    ));
+    private static ChunkerCodec outgoingCodec = ChunkerCodec.DEFLATE;
 
     public static final DataHandlerDescriptor DESCRIPTOR = new DataHandlerDescriptor(
             new ResourceLocation(
@@ -201,19 +372,56 @@ public class Chunker extends DataHandler.FromServer {
             false
     );
 
+    /**
+     * Makes a codec available for incoming transfers. The client and the server need to register the
+     * same codecs.
+     *
+     * @param codec The codec, its id must not be used by another codec
+     */
+    public static void registerCodec(ChunkerCodec codec) {
+        if (CODECS.putIfAbsent(codec.id(), codec) != null) {
+            throw new IllegalArgumentException("Codec id " + codec.id() + " is already in use");
+        }
+    }
+
+    /**
+     * Sets the codec that is used for outgoing transfers, unless compression is disabled in the
+     * server config.
+     *
+     * @param codec A codec that was registered with {@link #registerCodec(ChunkerCodec)}
+     */
+    public static void setOutgoingCodec(ChunkerCodec codec) {
+        if (CODECS.get(codec.id()) != codec) {
+            throw new IllegalArgumentException("Codec id " + codec.id() + " is not registered");
+        }
+        outgoingCodec = codec;
+    }
+
+    private int version;
     private int serialNo;
     private UUID uuid;
     private int chunkCount;
-    private FriendlyByteBuf networkedBuf;
+    private ChunkerSource source;
     private ResourceLocation origin;
-
-    protected Chunker(int serialNo, UUID uuid, FriendlyByteBuf networkedBuf, int chunkCount, ResourceLocation origin) {
+    private ChunkerCodec codec;
+
+    protected Chunker(
+            int version,
+            int serialNo,
+            UUID uuid,
+            ChunkerSource source,
+            int chunkCount,
+            ResourceLocation origin,
+            ChunkerCodec codec
+    ) {
         super(DESCRIPTOR.IDENTIFIER);
+        this.version = version;
         this.serialNo = serialNo;
         this.uuid = uuid;
-        this.networkedBuf = networkedBuf;
+        this.source = source;
         this.chunkCount = chunkCount;
         this.origin = origin;
+        this.codec = codec;
     }
 
     protected Chunker() {
@@ -224,7 +432,7 @@ public class Chunker extends DataHandler.FromServer {
     @Override
     protected void serializeDataOnServer(FriendlyByteBuf buf) {
         //Sending Header. Make sure to change HEADER_SIZE if you change this!
-        buf.writeByte(0);
+        buf.writeByte(version);
         buf.writeLong(uuid.getMostSignificantBits());
         buf.writeLong(uuid.getLeastSignificantBits());
         buf.writeInt(serialNo);
@@ -235,12 +443,36 @@ public class Chunker extends DataHandler.FromServer {
             buf.writeInt(chunkCount);
             writeString(buf, origin.getNamespace());
             writeString(buf, origin.getPath());
+            if (version >= 1) {
+                buf.writeInt(source.size());
+            }
+        } else if (version >= 1) {
+            //this is an actual payload chunk, encoded on its own
+            final int offset = serialNo * PAYLOAD_SIZE;
+            final int size = Math.min(PAYLOAD_SIZE, source.size() - offset);
+            final ByteBuf raw = Unpooled.buffer(size, size);
+            source.read(offset, size, raw);
+
+            ChunkerCodec chunkCodec = codec;
+            ByteBuf encoded = chunkCodec.encode(raw);
+            //already compressed data (like mod jars) does not get smaller
+            if (chunkCodec != ChunkerCodec.NONE && encoded.readableBytes() >= size) {
+                chunkCodec = ChunkerCodec.NONE;
+                encoded = raw;
+            }
+
+            buf.capacity(HEADER_SIZE + encoded.readableBytes());
+            buf.writeByte(chunkCodec.id());
+            buf.writeInt(size);
+            buf.writeInt(encoded.readableBytes());
+            buf.writeBytes(encoded, encoded.readerIndex(), encoded.readableBytes());
         } else {
             //this is an actual payload chunk
-            buf.capacity(MAX_PACKET_SIZE);
-            final int size = Math.min(MAX_PAYLOAD_SIZE, networkedBuf.readableBytes());
+            final int offset = serialNo * LEGACY_PAYLOAD_SIZE;
+            final int size = Math.min(LEGACY_PAYLOAD_SIZE, source.size() - offset);
+            buf.capacity(LEGACY_HEADER_SIZE + size);
             buf.writeInt(size);
-            networkedBuf.readBytes(buf, size);
+            source.read(offset, size, buf);
         }
     }
 
@@ -259,12 +491,12 @@ public class Chunker extends DataHandler.FromServer {
             ResourceLocation ident = new ResourceLocation(namespace, path);
             BCLib.LOGGER.info("Receiving " + chunkCount + " + Packet-Chunks for " + ident);
 
-            receiver = PacketChunkReceiver.getOrCreate(uuid, chunkCount, ident);
+            final int size = version >= 1 ? buf.readInt() : -1;
+            receiver = PacketChunkReceiver.create(uuid, chunkCount, ident, version, size);
         } else {
             receiver = PacketChunkReceiver.get(uuid);
             if (receiver != null) {
-                final int size = buf.readInt();
-                receiver.processReceived(buf, serialNo, size);
+                receiver.processReceived(buf, serialNo);
             } else {
                 BCLib.LOGGER.error("Unknown Packet-Chunk Transfer for " + uuid);
             }
@@ -0,0 +1,67 @@
+package org.betterx.bclib.api.v2.dataexchange.handler.autosync;
+
+import org.betterx.bclib.BCLib;
+import org.betterx.bclib.api.v2.dataexchange.DataHandler;
+import org.betterx.bclib.api.v2.dataexchange.DataHandlerDescriptor;
+
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.entity.player.Player;
+
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+import net.fabricmc.fabric.api.networking.v1.PacketSender;
+
+import java.util.UUID;
+
+/**
+ * Sent by the client for every received {@link Chunker} payload chunk, so the server can send the
+ * next chunks of the transfer.
+ */
+public class ChunkerAck extends DataHandler.FromClient {
+    public static final DataHandlerDescriptor DESCRIPTOR = new DataHandlerDescriptor(
+            new ResourceLocation(
+                    BCLib.MOD_ID,
+                    "chunker_ack"
+            ),
+            ChunkerAck::new,
+            false,
+            false
+    );
+
+    private UUID uuid;
+    private int received;
+
+    private ChunkerAck() {
+        super(DESCRIPTOR.IDENTIFIER);
+    }
+
+    ChunkerAck(UUID uuid, int received) {
+        super(DESCRIPTOR.IDENTIFIER);
+        this.uuid = uuid;
+        this.received = received;
+    }
+
+    @Environment(EnvType.CLIENT)
+    @Override
+    protected void serializeDataOnClient(FriendlyByteBuf buf) {
+        buf.writeLong(uuid.getMostSignificantBits());
+        buf.writeLong(uuid.getLeastSignificantBits());
+        buf.writeInt(received);
+    }
+
+    @Override
+    protected void deserializeIncomingDataOnServer(FriendlyByteBuf buf, Player player, PacketSender responseSender) {
+        uuid = new UUID(buf.readLong(), buf.readLong());
+        received = buf.readInt();
+    }
+
+    @Override
+    protected void runOnServerGameThread(MinecraftServer server, Player player) {
+        if (player instanceof ServerPlayer serverPlayer) {
+            Chunker.PacketChunkSender.acknowledge(uuid, serverPlayer, received);
+        }
+    }
+}
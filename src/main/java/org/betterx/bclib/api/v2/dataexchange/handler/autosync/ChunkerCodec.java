@@ -0,0 +1,99 @@
+package org.betterx.bclib.api.v2.dataexchange.handler.autosync;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Compresses the chunks of a {@link Chunker} transfer. The codec is announced in the header of every
+ * chunk, so the client needs a codec with the same {@link #id()}, see
+ * {@link Chunker#registerCodec(ChunkerCodec)}.
+ */
+public interface ChunkerCodec {
+    ChunkerCodec NONE = new ChunkerCodec() {
+        @Override
+        public byte id() {
+            return 0;
+        }
+
+        @Override
+        public ByteBuf encode(ByteBuf data) {
+            return data.slice();
+        }
+
+        @Override
+        public ByteBuf decode(ByteBuf data, int decodedSize) {
+            return data;
+        }
+    };
+
+    ChunkerCodec DEFLATE = new ChunkerCodec() {
+        @Override
+        public byte id() {
+            return 1;
+        }
+
+        @Override
+        public ByteBuf encode(ByteBuf data) {
+            final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+            try {
+                deflater.setInput(data.nioBuffer());
+                deflater.finish();
+                final ByteBuf out = Unpooled.buffer(data.readableBytes() / 2 + 64);
+                while (!deflater.finished()) {
+                    out.ensureWritable(64 * 1024);
+                    final int written = deflater.deflate(out.nioBuffer(out.writerIndex(), out.writableBytes()));
+                    out.writerIndex(out.writerIndex() + written);
+                }
+                return out;
+            } finally {
+                deflater.end();
+            }
+        }
+
+        @Override
+        public ByteBuf decode(ByteBuf data, int decodedSize) throws IOException {
+            final Inflater inflater = new Inflater();
+            try {
+                inflater.setInput(data.nioBuffer());
+                final ByteBuf out = Unpooled.buffer(decodedSize, decodedSize);
+                final ByteBuffer target = out.nioBuffer(0, decodedSize);
+                int read = 0;
+                while (!inflater.finished() && target.hasRemaining()) {
+                    final int count = inflater.inflate(target);
+                    if (count == 0 && (inflater.needsInput() || inflater.needsDictionary())) break;
+                    read += count;
+                }
+                if (read != decodedSize || !inflater.finished()) {
+                    throw new IOException("Expected " + decodedSize + " bytes, but got " + read);
+                }
+                out.writerIndex(read);
+                return out;
+            } catch (DataFormatException e) {
+                throw new IOException(e);
+            } finally {
+                inflater.end();
+            }
+        }
+    };
+
+    byte id();
+
+    /**
+     * @param data The readable bytes are encoded, the reader index is not changed
+     * @return A buffer with the encoded data
+     */
+    ByteBuf encode(ByteBuf data);
+
+    /**
+     * @param data        The encoded data
+     * @param decodedSize The size of the original data
+     * @return A buffer with the original data
+     */
+    ByteBuf decode(ByteBuf data, int decodedSize) throws IOException;
+}
@@ -0,0 +1,160 @@
+package org.betterx.bclib.api.v2.dataexchange.handler.autosync;
+
+import org.betterx.bclib.BCLib;
+
+import net.minecraft.network.FriendlyByteBuf;
+
+import net.fabricmc.fabric.api.networking.v1.PacketByteBufs;
+
+import io.netty.buffer.ByteBuf;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The content of a message that is sent by a {@link Chunker.PacketChunkSender}. The sender only reads the
+ * bytes of a chunk right before it encodes the chunk, so a source does not need to keep the whole message
+ * in memory. Chunks are encoded on background threads, so {@link #read(int, int, ByteBuf)} may be called
+ * from several threads at once.
+ */
+public interface ChunkerSource {
+    /**
+     * @return The number of bytes in the message
+     */
+    int size();
+
+    /**
+     * Appends a part of the message to a buffer.
+     *
+     * @param offset The position of the first byte in the message
+     * @param length The number of bytes to append
+     * @param target The buffer that receives the bytes
+     */
+    void read(int offset, int length, ByteBuf target);
+
+    /**
+     * @param buf The message, only the readable bytes are used. The content must not change afterwards.
+     * @return A source for the readable bytes of the buffer
+     */
+    static ChunkerSource of(ByteBuf buf) {
+        final ByteBuf data = buf.slice();
+        return new ChunkerSource() {
+            @Override
+            public int size() {
+                return data.readableBytes();
+            }
+
+            @Override
+            public void read(int offset, int length, ByteBuf target) {
+                target.writeBytes(data, offset, length);
+            }
+        };
+    }
+
+    /**
+     * @param file The file to read
+     * @param size The number of bytes that are read from the start of the file
+     * @return A source that reads the file whenever a part of it is needed
+     */
+    static ChunkerSource ofFile(Path file, int size) {
+        return new ChunkerSource() {
+            @Override
+            public int size() {
+                return size;
+            }
+
+            @Override
+            public void read(int offset, int length, ByteBuf target) {
+                final int start = target.writerIndex();
+                try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                    int written = 0;
+                    while (written < length) {
+                        final int read = target.writeBytes(channel, offset + written, length - written);
+                        if (read < 0) throw new EOFException();
+                        written += read;
+                    }
+                } catch (IOException e) {
+                    BCLib.LOGGER.error("Failed to read " + file + " while it was sent: " + e.getMessage());
+                    //the size was already sent, so the rest of the message has to stay in place
+                    target.writerIndex(start);
+                    target.writeZero(length);
+                }
+            }
+        };
+    }
+
+    /**
+     * @param parts The sources that are sent one after another
+     * @return A source for the combined message
+     */
+    static ChunkerSource concat(List<ChunkerSource> parts) {
+        final ChunkerSource[] sources = parts.toArray(new ChunkerSource[0]);
+        final int[] starts = new int[sources.length + 1];
+        for (int i = 0; i < sources.length; i++) {
+            starts[i + 1] = starts[i] + sources[i].size();
+        }
+
+        return new ChunkerSource() {
+            @Override
+            public int size() {
+                return starts[sources.length];
+            }
+
+            @Override
+            public void read(int offset, int length, ByteBuf target) {
+                int index = Arrays.binarySearch(starts, offset);
+                if (index < 0) index = -index - 2;
+
+                final int end = offset + length;
+                while (offset < end) {
+                    final int count = Math.min(end, starts[index + 1]) - offset;
+                    if (count > 0) {
+                        sources[index].read(offset - starts[index], count, target);
+                        offset += count;
+                    }
+                    index++;
+                }
+            }
+        };
+    }
+
+    /**
+     * Collects the parts of a message. Data that is written to {@link #buffer()} is appended after all
+     * parts that were added before.
+     */
+    final class Builder {
+        private final List<ChunkerSource> parts = new ArrayList<>();
+        private FriendlyByteBuf buffer;
+
+        public FriendlyByteBuf buffer() {
+            if (buffer == null) {
+                buffer = PacketByteBufs.create();
+            }
+            return buffer;
+        }
+
+        public Builder add(ChunkerSource part) {
+            flush();
+            parts.add(part);
+            return this;
+        }
+
+        public ChunkerSource build() {
+            flush();
+            return concat(parts);
+        }
+
+        private void flush() {
+            if (buffer != null) {
+                parts.add(of(buffer));
+                buffer = null;
+            }
+        }
+    }
+}
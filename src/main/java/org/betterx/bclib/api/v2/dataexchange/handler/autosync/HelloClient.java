@@ -25,6 +25,9 @@ import net.fabricmc.api.Environment;
 import net.fabricmc.fabric.api.networking.v1.PacketSender;
 import net.fabricmc.loader.api.metadata.ModEnvironment;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
@@ -76,11 +79,72 @@ public class HelloClient extends DataHandler.FromServer {
         return true;
     }
 
-    @Override
-    protected void serializeDataOnServer(FriendlyByteBuf buf) {
+    //the manifest only depends on the server config and the offered files, so it is built once and
+    //sent to every joining player until one of them changes
+    private static Manifest manifest;
+
+    private record FileStamp(boolean exists, long modified, long size) {
+        static FileStamp of(File file) {
+            return new FileStamp(file.exists(), file.lastModified(), file.length());
+        }
+    }
+
+    private record ManifestKey(
+            boolean offeringMods,
+            boolean offeringAllMods,
+            boolean offeringInfosForMods,
+            boolean offeringFiles,
+            boolean offeringConfigs,
+            List<String> excludedMods,
+            List<String> registeredMods,
+            long modsModified,
+            List<FileStamp> files,
+            List<Integer> folders
+    ) {
+        static ManifestKey current() {
+            return new ManifestKey(
+                    Configs.SERVER_CONFIG.isOfferingMods(),
+                    Configs.SERVER_CONFIG.isOfferingAllMods(),
+                    Configs.SERVER_CONFIG.isOfferingInfosForMods(),
+                    Configs.SERVER_CONFIG.isOfferingFiles(),
+                    Configs.SERVER_CONFIG.isOfferingConfigs(),
+                    List.copyOf(Configs.SERVER_CONFIG.get(ServerConfig.EXCLUDED_MODS)),
+                    List.copyOf(DataExchangeAPI.registeredMods()),
+                    PathUtil.MOD_FOLDER.toFile().lastModified(),
+                    AutoSync.getAutoSyncFiles().stream().map(e -> FileStamp.of(e.fileName)).toList(),
+                    AutoSync.syncFolderDescriptions.stream().map(SyncFolderDescriptor::cacheVersion).toList()
+            );
+        }
+    }
+
+    private record Manifest(ManifestKey key, ByteBuf payload) {
+    }
+
+    private static synchronized ByteBuf getManifest() {
         final String vbclib = getBCLibVersion();
         BCLib.LOGGER.info("Sending Hello to Client. (server=" + vbclib + ")");
 
+        final ManifestKey key = ManifestKey.current();
+        if (manifest == null || !manifest.key.equals(key)) {
+            final FriendlyByteBuf buf = new FriendlyByteBuf(Unpooled.buffer());
+            writeManifest(buf, vbclib);
+            manifest = new Manifest(key, Unpooled.unreleasableBuffer(buf));
+        }
+        return manifest.payload;
+    }
+
+    @Override
+    protected FriendlyByteBuf createPayloadOnServer() {
+        return new FriendlyByteBuf(getManifest().duplicate());
+    }
+
+    @Override
+    protected void serializeDataOnServer(FriendlyByteBuf buf) {
+        final ByteBuf payload = getManifest();
+        buf.writeBytes(payload, payload.readerIndex(), payload.readableBytes());
+    }
+
+    private static void writeManifest(FriendlyByteBuf buf, String vbclib) {
         //write BCLibVersion (=protocol version)
         buf.writeInt(ModUtil.convertModVersion(vbclib));
 
@@ -10,6 +10,7 @@ import org.betterx.worlds.together.util.ModUtil;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.entity.player.Player;
 
 import net.fabricmc.api.EnvType;
@@ -71,6 +72,7 @@ public class HelloServer extends DataHandler.FromClient {
     );
 
     protected String bclibVersion = "0.0.0";
+    protected int chunkerVersion = 0;
 
     public HelloServer() {
         super(DESCRIPTOR.IDENTIFIER);
@@ -92,15 +94,23 @@ public class HelloServer extends DataHandler.FromClient {
     protected void serializeDataOnClient(FriendlyByteBuf buf) {
         BCLib.LOGGER.info("Sending hello to server.");
         buf.writeInt(ModUtil.convertModVersion(HelloClient.getBCLibVersion()));
+        //older servers stop reading after the version
+        buf.writeByte(Chunker.VERSION);
     }
 
     @Override
     protected void deserializeIncomingDataOnServer(FriendlyByteBuf buf, Player player, PacketSender responseSender) {
         bclibVersion = ModUtil.convertModVersion(buf.readInt());
+        //older clients do not send the chunker version and can only read uncompressed chunks
+        chunkerVersion = buf.isReadable() ? buf.readByte() : 0;
     }
 
     @Override
     protected void runOnServerGameThread(MinecraftServer server, Player player) {
+        if (player instanceof ServerPlayer serverPlayer) {
+            Chunker.PacketChunkSender.setClientVersion(serverPlayer, chunkerVersion);
+        }
+
         if (!Configs.SERVER_CONFIG.isAllowingAutoSync()) {
             BCLib.LOGGER.info("Auto-Sync was disabled on the server.");
             return;
@@ -61,6 +61,13 @@ public class SendFiles extends DataHandler.FromServer {
 
     @Override
     protected void serializeDataOnServer(FriendlyByteBuf buf) {
+        final ChunkerSource source = createPayloadSourceOnServer();
+        buf.ensureWritable(source.size());
+        source.read(0, source.size(), buf);
+    }
+
+    @Override
+    protected ChunkerSource createPayloadSourceOnServer() {
         List<AutoFileSyncEntry> existingFiles = files.stream()
                                                      .filter(e -> e != null && e.fileName != null && e.fileName.exists())
                                                      .collect(Collectors.toList());
@@ -78,16 +85,19 @@ public class SendFiles extends DataHandler.FromServer {
 		existingFiles.add(new AutoFileSyncEntry.ForDirectFileRequest(DataExchange.SYNC_FOLDER.folderID, new File("../breakout.json"), DataExchange.SYNC_FOLDER.mapAbsolute("../breakout.json").toFile()));*/
 
 
-        writeString(buf, token);
-        buf.writeInt(existingFiles.size());
+        //the file content is only read when the chunks that contain it are sent
+        final ChunkerSource.Builder out = new ChunkerSource.Builder();
+        writeString(out.buffer(), token);
+        out.buffer().writeInt(existingFiles.size());
 
         if (Configs.MAIN_CONFIG.verboseLogging())
             BCLib.LOGGER.info("Sending " + existingFiles.size() + " Files to Client:");
         for (AutoFileSyncEntry entry : existingFiles) {
-            int length = entry.serializeContent(buf);
+            int length = entry.serializeContent(out);
             if (Configs.MAIN_CONFIG.verboseLogging())
                 BCLib.LOGGER.info("	- " + entry + " (" + PathUtil.humanReadableFileSize(length) + ")");
         }
+        return out.build();
     }
 
     private List<Pair<AutoFileSyncEntry, byte[]>> receivedFiles;
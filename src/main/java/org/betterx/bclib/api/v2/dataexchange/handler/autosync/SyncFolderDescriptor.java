@@ -7,11 +7,15 @@ import org.betterx.bclib.api.v2.dataexchange.handler.autosync.AutoSyncID.ForDire
 import org.betterx.bclib.config.Configs;
 import org.betterx.worlds.together.util.PathUtil;
 
+import net.minecraft.Util;
 import net.minecraft.network.FriendlyByteBuf;
 
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Stream;
 import org.jetbrains.annotations.NotNull;
 
@@ -57,13 +61,41 @@ public class SyncFolderDescriptor {
         }
     }
 
+    /**
+     * An immutable list of the files in the folder, so it can be read while a new one is built
+     */
+    private static class Snapshot {
+        final List<SubFile> files;
+        final Map<String, SubFile> byPath;
+
+        Snapshot(List<SubFile> files) {
+            this.files = List.copyOf(files);
+            this.byPath = new HashMap<>(files.size() * 2);
+            for (SubFile file : this.files) {
+                this.byPath.putIfAbsent(file.relPath, file);
+            }
+        }
+
+        boolean sameContent(Snapshot other) {
+            if (other == null || other.files.size() != files.size()) return false;
+            for (int i = 0; i < files.size(); i++) {
+                final SubFile a = files.get(i);
+                final SubFile b = other.files.get(i);
+                if (!a.relPath.equals(b.relPath) || !a.hash.equals(b.hash)) return false;
+            }
+            return true;
+        }
+    }
+
     @NotNull
     public final String folderID;
     public final boolean removeAdditionalFiles;
     @NotNull
     public final Path localFolder;
 
-    private List<SubFile> fileCache;
+    private volatile Snapshot fileCache;
+    private volatile int cacheVersion;
+    private final AtomicBoolean refreshing = new AtomicBoolean();
 
     public SyncFolderDescriptor(String folderID, Path localFolder, boolean removeAdditionalFiles) {
         this.removeAdditionalFiles = removeAdditionalFiles;
@@ -77,7 +109,7 @@ public class SyncFolderDescriptor {
         return "SyncFolderDescriptor{" + "folderID='" + folderID + '\'' + ", removeAdditionalFiles=" + removeAdditionalFiles + ", localFolder=" + localFolder + ", files=" + (
                 fileCache == null
                         ? "?"
-                        : fileCache.size()) + "}";
+                        : fileCache.files.size()) + "}";
     }
 
     @Override
@@ -100,37 +132,89 @@ public class SyncFolderDescriptor {
     }
 
     public int fileCount() {
-        return fileCache == null ? 0 : fileCache.size();
+        final Snapshot snapshot = fileCache;
+        return snapshot == null ? 0 : snapshot.files.size();
     }
 
     public void invalidateCache() {
         fileCache = null;
     }
 
+    /**
+     * @return A number that changes whenever the file list is loaded again
+     */
+    int cacheVersion() {
+        return cacheVersion;
+    }
+
     public void loadCache() {
         if (fileCache == null) {
-            fileCache = new ArrayList<>(8);
-            PathUtil.fileWalker(localFolder.toFile(), p -> fileCache.add(new SubFile(
-                    localFolder.relativize(p)
-                               .toString(),
-                    FileHash.create(p.toFile())
-            )));
-			
-			/*//this tests if we can trick the system to load files that are not beneath the base-folder
-			if (!BCLib.isClient()) {
-				fileCache.add(new SubFile("../breakout.json", FileHash.create(mapAbsolute("../breakout.json").toFile())));
-			}*/
+            synchronized (this) {
+                if (fileCache == null) {
+                    publish(scan());
+                }
+            }
         }
     }
 
+    /**
+     * Loads the file list if there is none yet. Otherwise, the current list stays in use and a new one
+     * is built on a background thread. Only files that changed since they were last hashed are read
+     * again (see {@link FileHash#create(java.io.File)}), and the new list replaces the current one once
+     * it is complete.
+     */
+    public void refreshCache() {
+        if (fileCache == null) {
+            loadCache();
+            return;
+        }
+        if (!refreshing.compareAndSet(false, true)) return;
+
+        Util.ioPool().execute(() -> {
+            try {
+                final Snapshot snapshot = scan();
+                synchronized (this) {
+                    //the cache was invalidated in the meantime
+                    if (fileCache != null) publish(snapshot);
+                }
+            } catch (RuntimeException e) {
+                BCLib.LOGGER.error("Failed to update Sync-Folder '" + folderID + "'", e);
+            } finally {
+                refreshing.set(false);
+            }
+        });
+    }
+
+    private Snapshot scan() {
+        final List<SubFile> files = new ArrayList<>(8);
+        PathUtil.fileWalker(localFolder.toFile(), p -> files.add(new SubFile(
+                localFolder.relativize(p)
+                           .toString(),
+                FileHash.create(p.toFile())
+        )));
+			
+		/*//this tests if we can trick the system to load files that are not beneath the base-folder
+		if (!BCLib.isClient()) {
+			files.add(new SubFile("../breakout.json", FileHash.create(mapAbsolute("../breakout.json").toFile())));
+		}*/
+        return new Snapshot(files);
+    }
+
+    private void publish(Snapshot snapshot) {
+        if (snapshot.sameContent(fileCache)) return;
+        fileCache = snapshot;
+        cacheVersion++;
+    }
+
     public void serialize(FriendlyByteBuf buf) {
         final boolean debugHashes = Configs.CLIENT_CONFIG.getBoolean(AutoSync.SYNC_CATEGORY, "debugHashes", false);
         loadCache();
+        final Snapshot snapshot = fileCache;
 
         DataHandler.writeString(buf, folderID);
         buf.writeBoolean(removeAdditionalFiles);
-        buf.writeInt(fileCache.size());
-        fileCache.forEach(fl -> {
+        buf.writeInt(snapshot.files.size());
+        snapshot.files.forEach(fl -> {
             if (Configs.MAIN_CONFIG.verboseLogging()) {
                 BCLib.LOGGER.info("	  - " + fl.relPath);
                 if (debugHashes) {
@@ -154,7 +238,6 @@ public class SyncFolderDescriptor {
                     localDescriptor.localFolder,
                     localDescriptor.removeAdditionalFiles && remAddFiles
             );
-            desc.fileCache = new ArrayList<>(count);
         } else {
             BCLib.LOGGER.warning(BCLib.isClient()
                     ? "Client"
@@ -162,20 +245,18 @@ public class SyncFolderDescriptor {
             desc = null;
         }
 
+        final List<SubFile> files = new ArrayList<>(count);
         for (int i = 0; i < count; i++) {
-            SubFile relPath = SubFile.deserialize(buf);
-            if (desc != null) desc.fileCache.add(relPath);
+            files.add(SubFile.deserialize(buf));
         }
+        if (desc != null) desc.fileCache = new Snapshot(files);
 
         return desc;
     }
 
     //Note: make sure loadCache was called before using this
     boolean hasRelativeFile(String relFile) {
-        return fileCache.stream()
-                        .filter(sf -> sf.equals(relFile))
-                        .findFirst()
-                        .isPresent();
+        return fileCache.byPath.containsKey(relFile);
     }
 
     //Note: make sure loadCache was called before using this
@@ -185,15 +266,12 @@ public class SyncFolderDescriptor {
 
     //Note: make sure loadCache was called before using this
     SubFile getLocalSubFile(String relPath) {
-        return fileCache.stream()
-                        .filter(sf -> sf.relPath.equals(relPath))
-                        .findFirst()
-                        .orElse(null);
+        return fileCache.byPath.get(relPath);
     }
 
     Stream<SubFile> relativeFilesStream() {
         loadCache();
-        return fileCache.stream();
+        return fileCache.files.stream();
     }
 
     public Path mapAbsolute(String relPath) {
@@ -17,7 +17,6 @@ import net.minecraft.client.gui.screens.worldselection.EditWorldScreen;
 import net.minecraft.nbt.*;
 import net.minecraft.network.chat.Component;
 import net.minecraft.world.level.ChunkPos;
-import net.minecraft.world.level.chunk.storage.RegionFile;
 import net.minecraft.world.level.storage.LevelResource;
 import net.minecraft.world.level.storage.LevelStorageSource;
 import net.minecraft.world.level.storage.LevelStorageSource.LevelStorageAccess;
@@ -26,7 +25,6 @@ import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
 
 import java.io.*;
-import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -44,22 +42,23 @@ public class DataFixerAPI {
     static final Logger LOGGER = new Logger("DataFixerAPI");
 
     static class State {
-        public boolean didFail = false;
+        //written by the region and chunk fixer threads
+        public volatile boolean didFail = false;
         protected ArrayList<String> errors = new ArrayList<>();
 
-        public void addError(String s) {
+        public synchronized void addError(String s) {
             errors.add(s);
         }
 
-        public boolean hasError() {
+        public synchronized boolean hasError() {
             return errors.size() > 0;
         }
 
-        public String getErrorMessage() {
+        public synchronized String getErrorMessage() {
             return errors.stream().reduce("", (a, b) -> a + "  - " + b + "\n");
         }
 
-        public String[] getErrorMessages() {
+        public synchronized String[] getErrorMessages() {
             String[] res = new String[errors.size()];
             return errors.toArray(res);
         }
@@ -189,6 +188,15 @@ public class DataFixerAPI {
                         public void progressStage(Component component) {
                             BCLib.LOGGER.info("Patcher Stage... {}%", component.getString());
                         }
+
+                        @Override
+                        public void reportThroughput(double itemsPerSecond, double bytesPerSecond) {
+                            BCLib.LOGGER.info(
+                                    "Patching {} chunks/s, {} KiB/s",
+                                    String.format("%.1f", itemsPerSecond),
+                                    String.format("%.1f", bytesPerSecond / 1024)
+                            );
+                        }
                     };
                 }
             } else {
@@ -324,10 +332,7 @@ public class DataFixerAPI {
         progress.incAtomic(maxProgress);
 
         progress.progressStage(Component.translatable("message.bclib.datafixer.progress.regions"));
-        regions.parallelStream().forEach((file) -> {
-            fixRegion(profile, state, file);
-            progress.incAtomic(maxProgress);
-        });
+        new RegionFixer(profile, state, progress).fixRegions(regions, maxProgress);
 
         if (!state.didFail) {
             progress.progressStage(Component.translatable("message.bclib.datafixer.progress.saving"));
@@ -433,78 +438,51 @@ public class DataFixerAPI {
         return _changed;
     }
 
-    private static void fixRegion(MigrationProfile data, State state, File file) {
-        try {
-            Path path = file.toPath();
-            LOGGER.info("Inspecting " + path);
-            boolean[] changed = new boolean[1];
-            RegionFile region = new RegionFile(path, path.getParent(), true);
-
-            for (int x = 0; x < 32; x++) {
-                for (int z = 0; z < 32; z++) {
-                    ChunkPos pos = new ChunkPos(x, z);
-                    changed[0] = false;
-                    if (region.hasChunk(pos) && !state.didFail) {
-                        DataInputStream input = region.getChunkDataInputStream(pos);
-                        CompoundTag root = NbtIo.read(input);
-                        // if ((root.toString().contains("betternether:chest") || root.toString().contains("bclib:chest"))) {
-                        //   NbtIo.write(root, new File(file.toString() + "-" + x + "-" + z + ".nbt"));
-                        // }
-                        input.close();
-
-                        //Checking TileEntities
-                        ListTag tileEntities = root.getCompound("Level")
-                                                   .getList("TileEntities", Tag.TAG_COMPOUND);
-                        fixItemArrayWithID(tileEntities, changed, data, true);
-
-                        //Checking Entities
-                        ListTag entities = root.getList("Entities", Tag.TAG_COMPOUND);
-                        fixItemArrayWithID(entities, changed, data, true);
-
-                        //Checking Block Palette
-                        ListTag sections = root.getCompound("Level")
-                                               .getList("Sections", Tag.TAG_COMPOUND);
-                        sections.forEach((tag) -> {
-                            ListTag palette = ((CompoundTag) tag).getList("Palette", Tag.TAG_COMPOUND);
-                            palette.forEach((blockTag) -> {
-                                CompoundTag blockTagCompound = ((CompoundTag) blockTag);
-                                changed[0] |= data.replaceStringFromIDs(blockTagCompound, "Name");
-                            });
-
-                            try {
-                                changed[0] |= data.patchBlockState(
-                                        palette,
-                                        ((CompoundTag) tag).getList(
-                                                "BlockStates",
-                                                Tag.TAG_LONG
-                                        )
-                                );
-                            } catch (PatchDidiFailException e) {
-                                BCLib.LOGGER.error("Failed fixing BlockState in " + pos);
-                                state.addError("Failed fixing BlockState in " + pos + " (" + e.getMessage() + ")");
-                                state.didFail = true;
-                                changed[0] = false;
-                                e.printStackTrace();
-                            }
-                        });
-
-                        if (changed[0]) {
-                            LOGGER.warning("Writing '{}': {}/{}", file, x, z);
-                            // NbtIo.write(root, new File(file.toString() + "-" + x + "-" + z + "-changed.nbt"));
-                            DataOutputStream output = region.getChunkDataOutputStream(pos);
-                            NbtIo.write(root, output);
-                            output.close();
-                        }
-                    }
-                }
+    /**
+     * Applies the profile to the NBT of one chunk.
+     *
+     * @return {@code true} if the chunk was changed and needs to be written
+     */
+    static boolean fixChunk(MigrationProfile data, State state, ChunkPos pos, CompoundTag root) {
+        boolean[] changed = {false};
+
+        //Checking TileEntities
+        ListTag tileEntities = root.getCompound("Level")
+                                   .getList("TileEntities", Tag.TAG_COMPOUND);
+        fixItemArrayWithID(tileEntities, changed, data, true);
+
+        //Checking Entities
+        ListTag entities = root.getList("Entities", Tag.TAG_COMPOUND);
+        fixItemArrayWithID(entities, changed, data, true);
+
+        //Checking Block Palette
+        ListTag sections = root.getCompound("Level")
+                               .getList("Sections", Tag.TAG_COMPOUND);
+        sections.forEach((tag) -> {
+            ListTag palette = ((CompoundTag) tag).getList("Palette", Tag.TAG_COMPOUND);
+            palette.forEach((blockTag) -> {
+                CompoundTag blockTagCompound = ((CompoundTag) blockTag);
+                changed[0] |= data.replaceStringFromIDs(blockTagCompound, "Name");
+            });
+
+            try {
+                changed[0] |= data.patchBlockState(
+                        palette,
+                        ((CompoundTag) tag).getList(
+                                "BlockStates",
+                                Tag.TAG_LONG
+                        )
+                );
+            } catch (PatchDidiFailException e) {
+                BCLib.LOGGER.error("Failed fixing BlockState in " + pos);
+                state.addError("Failed fixing BlockState in " + pos + " (" + e.getMessage() + ")");
+                state.didFail = true;
+                changed[0] = false;
+                e.printStackTrace();
             }
-            region.close();
-        } catch (Exception e) {
-            BCLib.LOGGER.error("Failed fixing Region.");
-            state.addError("Failed fixing Region in " + file.getName() + " (" + e.getMessage() + ")");
-            state.didFail = true;
-            e.printStackTrace();
-        }
+        });
+
+        return changed[0];
     }
 
     static CompoundTag patchConfTag = null;
@@ -0,0 +1,128 @@
+package org.betterx.bclib.api.v2.datafixer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UTFDataFormatException;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Searches uncompressed NBT data for string tags with one of a set of values, without parsing the NBT.
+ * <p>
+ * NBT stores strings as a two byte length followed by the modified UTF-8 bytes, so every pattern is
+ * the encoded string including its length. A match only means that the bytes occur somewhere in the
+ * data, but if there is no match, no string tag in the data can have one of the values. All patterns
+ * are searched in one pass with an Aho-Corasick automaton that is compiled to a table over the bytes
+ * that occur in the patterns.
+ */
+class IdPrefilter {
+    private final int[] byteClass = new int[256];
+    private final int alphabet;
+    private final int[] next;
+    private final boolean[] accepts;
+
+    private IdPrefilter(List<byte[]> patterns) {
+        //class 0 is every byte that is not part of any pattern
+        int classes = 1;
+        int maxStates = 1;
+        for (byte[] pattern : patterns) {
+            maxStates += pattern.length;
+            for (byte b : pattern) {
+                if (byteClass[b & 0xFF] == 0) byteClass[b & 0xFF] = classes++;
+            }
+        }
+        alphabet = classes;
+
+        //build the trie, -1 marks a missing edge
+        int[] trie = new int[maxStates * alphabet];
+        Arrays.fill(trie, -1);
+        boolean[] accept = new boolean[maxStates];
+        int states = 1;
+        for (byte[] pattern : patterns) {
+            int state = 0;
+            for (byte b : pattern) {
+                final int edge = state * alphabet + byteClass[b & 0xFF];
+                if (trie[edge] < 0) trie[edge] = states++;
+                state = trie[edge];
+            }
+            accept[state] = true;
+        }
+
+        //turn the trie into a complete transition table, following the failure links
+        final int[] fail = new int[states];
+        final ArrayDeque<Integer> queue = new ArrayDeque<>();
+        for (int c = 0; c < alphabet; c++) {
+            final int child = trie[c];
+            if (child < 0) {
+                trie[c] = 0;
+            } else {
+                fail[child] = 0;
+                queue.add(child);
+            }
+        }
+        while (!queue.isEmpty()) {
+            final int state = queue.poll();
+            accept[state] |= accept[fail[state]];
+            for (int c = 0; c < alphabet; c++) {
+                final int edge = state * alphabet + c;
+                final int child = trie[edge];
+                if (child < 0) {
+                    trie[edge] = trie[fail[state] * alphabet + c];
+                } else {
+                    fail[child] = trie[fail[state] * alphabet + c];
+                    queue.add(child);
+                }
+            }
+        }
+
+        this.next = Arrays.copyOf(trie, states * alphabet);
+        this.accepts = Arrays.copyOf(accept, states);
+    }
+
+    /**
+     * @param values The string values to search for
+     * @return A filter for the values, or {@code null} if there are no values
+     */
+    static IdPrefilter of(Collection<String> values) {
+        if (values.isEmpty()) return null;
+        List<byte[]> patterns = new ArrayList<>(values.size());
+        for (String value : values) {
+            patterns.add(encode(value));
+        }
+        return new IdPrefilter(patterns);
+    }
+
+    //the same encoding NbtIo uses for string tags
+    private static byte[] encode(String value) {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(value.length() + 2);
+            new DataOutputStream(bytes).writeUTF(value);
+            return bytes.toByteArray();
+        } catch (UTFDataFormatException e) {
+            throw new IllegalArgumentException("ID is too long: " + value, e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * @param data Uncompressed NBT data
+     * @return {@code false} if the data can not contain a string tag with one of the values
+     */
+    boolean mightContain(byte[] data) {
+        final int[] next = this.next;
+        final int[] byteClass = this.byteClass;
+        final int alphabet = this.alphabet;
+        int state = 0;
+        for (byte b : data) {
+            state = next[state * alphabet + byteClass[b & 0xFF]];
+            if (accepts[state]) return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,265 @@
+package org.betterx.bclib.api.v2.datafixer;
+
+import org.betterx.bclib.BCLib;
+import org.betterx.bclib.client.gui.screens.AtomicProgressListener;
+
+import net.minecraft.Util;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.NbtIo;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.chunk.storage.RegionFile;
+import net.minecraft.world.level.chunk.storage.RegionFileVersion;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Applies the {@link MigrationProfile} to all chunks of a set of region files.
+ * <p>
+ * Every region is handled by one region thread that reads the compressed chunk payloads straight from
+ * the file and is the only thread that writes to that region. Decompressing, parsing and patching
+ * the chunks happens on a shared worker pool. The number of chunks a region may have in flight is
+ * bounded, so one huge region keeps all workers busy without buffering the whole file in memory.
+ * <p>
+ * Chunks that do not contain any of the replaced IDs are recognized with an {@link IdPrefilter} on
+ * the raw NBT bytes and are never parsed.
+ */
+class RegionFixer {
+    private static final int SECTOR_SIZE = 4096;
+    private static final int CHUNKS_PER_REGION = 32 * 32;
+    private static final int MAX_IN_FLIGHT = 64;
+    private static final long REPORT_INTERVAL = 1000;
+
+    private final MigrationProfile data;
+    private final DataFixerAPI.State state;
+    private final AtomicProgressListener progress;
+    private final IdPrefilter prefilter;
+    private final LongAdder chunks = new LongAdder();
+    private final LongAdder bytes = new LongAdder();
+    private final LongAdder skipped = new LongAdder();
+    private final AtomicLong lastReport = new AtomicLong();
+    private long startTime;
+
+    RegionFixer(MigrationProfile data, DataFixerAPI.State state, AtomicProgressListener progress) {
+        this.data = data;
+        this.state = state;
+        this.progress = progress;
+        //block state patchers may change any chunk, so the ids alone can only rule out chunks without them
+        this.prefilter = data.statePatchers.isEmpty() ? IdPrefilter.of(data.idReplacements.keySet()) : null;
+    }
+
+    /**
+     * Fixes all regions and blocks until they are done.
+     *
+     * @param regions     The region files
+     * @param maxProgress The value passed to {@link AtomicProgressListener#incAtomic(int)} for every
+     *                    finished region
+     */
+    void fixRegions(List<File> regions, int maxProgress) {
+        final int cpus = Runtime.getRuntime().availableProcessors();
+        final ExecutorService workers = Executors.newFixedThreadPool(
+                Math.max(1, cpus - 1),
+                namedThreads("BCLib Chunk Fixer")
+        );
+        final ExecutorService regionThreads = Executors.newFixedThreadPool(
+                Math.max(1, Math.min(regions.size(), Math.min(4, cpus))),
+                namedThreads("BCLib Region Fixer")
+        );
+        startTime = Util.getMillis();
+        lastReport.set(startTime);
+
+        try {
+            List<Future<?>> futures = new ArrayList<>(regions.size());
+            for (File file : regions) {
+                futures.add(regionThreads.submit(() -> {
+                    fixRegion(file, workers);
+                    progress.incAtomic(maxProgress);
+                }));
+            }
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    BCLib.LOGGER.error("Failed fixing Region.", e);
+                    state.addError("Failed fixing Region (" + e.getCause().getMessage() + ")");
+                    state.didFail = true;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            state.addError("Fixing Regions was interrupted");
+            state.didFail = true;
+        } finally {
+            regionThreads.shutdownNow();
+            workers.shutdownNow();
+        }
+
+        report(true);
+        DataFixerAPI.LOGGER.info("Skipped {} of {} chunks without parsing them", skipped.sum(), chunks.sum());
+    }
+
+    private void fixRegion(File file, ExecutorService workers) {
+        final Path path = file.toPath();
+        DataFixerAPI.LOGGER.info("Inspecting " + path);
+        try (
+                RegionFile region = new RegionFile(path, path.getParent(), true);
+                FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)
+        ) {
+            final int[] offsets = readOffsets(channel);
+            final ArrayDeque<Future<ChunkResult>> pending = new ArrayDeque<>();
+
+            for (int x = 0; x < 32; x++) {
+                for (int z = 0; z < 32; z++) {
+                    if (state.didFail) break;
+                    final int offset = offsets[x + z * 32];
+                    if (offset == 0) continue;
+
+                    final ChunkPos pos = new ChunkPos(x, z);
+                    final RawChunk raw = readChunk(region, channel, pos, offset);
+                    if (raw == null) continue;
+                    bytes.add(raw.compressedSize);
+                    pending.add(workers.submit(() -> fixChunk(raw)));
+
+                    while (pending.size() >= MAX_IN_FLIGHT) {
+                        writeChunk(region, file, pending.poll());
+                    }
+                }
+            }
+
+            while (!pending.isEmpty()) {
+                writeChunk(region, file, pending.poll());
+            }
+        } catch (Exception e) {
+            BCLib.LOGGER.error("Failed fixing Region.");
+            state.addError("Failed fixing Region in " + file.getName() + " (" + e.getMessage() + ")");
+            state.didFail = true;
+            e.printStackTrace();
+        }
+    }
+
+    private static int[] readOffsets(FileChannel channel) throws IOException {
+        final int[] offsets = new int[CHUNKS_PER_REGION];
+        if (channel.size() < SECTOR_SIZE) return offsets;
+
+        final ByteBuffer header = ByteBuffer.allocate(SECTOR_SIZE);
+        readFully(channel, header, 0);
+        header.flip();
+        header.asIntBuffer().get(offsets);
+        return offsets;
+    }
+
+    /**
+     * Reads the payload of a chunk without decompressing it. Chunks that are stored in an external
+     * file are read through the {@link RegionFile} instead.
+     */
+    private RawChunk readChunk(RegionFile region, FileChannel channel, ChunkPos pos, int offset) throws IOException {
+        final long start = (long) (offset >>> 8) * SECTOR_SIZE;
+        final int sectors = offset & 0xFF;
+        if (sectors == 0 || start + 5 > channel.size()) return null;
+
+        final ByteBuffer head = ByteBuffer.allocate(5);
+        readFully(channel, head, start);
+        head.flip();
+        final int length = head.getInt();
+        final byte version = head.get();
+
+        //external chunks and broken entries are left to the RegionFile, which knows how to handle them
+        if ((version & 0x80) != 0 || length <= 1 || length > sectors * SECTOR_SIZE - 4) {
+            try (DataInputStream input = region.getChunkDataInputStream(pos)) {
+                if (input == null) return null;
+                final byte[] payload = input.readAllBytes();
+                return new RawChunk(pos, null, payload, payload.length);
+            }
+        }
+
+        final RegionFileVersion fileVersion = RegionFileVersion.fromId(version);
+        if (fileVersion == null) {
+            DataFixerAPI.LOGGER.warning("Unknown compression {} for chunk {}", version, pos);
+            return null;
+        }
+
+        final ByteBuffer payload = ByteBuffer.allocate(length - 1);
+        readFully(channel, payload, start + 5);
+        return new RawChunk(pos, fileVersion, payload.array(), length - 1);
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            final int read = channel.read(buffer, position + buffer.position());
+            if (read < 0) throw new EOFException();
+        }
+    }
+
+    private ChunkResult fixChunk(RawChunk raw) throws IOException {
+        if (state.didFail) return null;
+
+        final byte[] decompressed;
+        if (raw.version == null) {
+            decompressed = raw.payload;
+        } else {
+            try (InputStream input = raw.version.wrap(new ByteArrayInputStream(raw.payload))) {
+                decompressed = input.readAllBytes();
+            }
+        }
+
+        chunks.increment();
+        report(false);
+        if (prefilter != null && !prefilter.mightContain(decompressed)) {
+            skipped.increment();
+            return null;
+        }
+
+        final CompoundTag root = NbtIo.read(new DataInputStream(new ByteArrayInputStream(decompressed)));
+        final boolean changed = DataFixerAPI.fixChunk(data, state, raw.pos, root);
+        return changed ? new ChunkResult(raw.pos, root) : null;
+    }
+
+    private void writeChunk(RegionFile region, File file, Future<ChunkResult> future) throws Exception {
+        final ChunkResult result;
+        try {
+            result = future.get();
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof Exception ex ? ex : e;
+        }
+        if (result == null) return;
+
+        DataFixerAPI.LOGGER.warning("Writing '{}': {}/{}", file, result.pos.x, result.pos.z);
+        try (DataOutputStream output = region.getChunkDataOutputStream(result.pos)) {
+            NbtIo.write(result.root, output);
+        }
+    }
+
+    private void report(boolean force) {
+        final long now = Util.getMillis();
+        final long last = lastReport.get();
+        if (!force && (now - last < REPORT_INTERVAL || !lastReport.compareAndSet(last, now))) return;
+
+        final double seconds = Math.max(1, now - startTime) / 1000.0;
+        progress.reportThroughput(chunks.sum() / seconds, bytes.sum() / seconds);
+    }
+
+    private static ThreadFactory namedThreads(String name) {
+        final AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, name + " #" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private record RawChunk(ChunkPos pos, RegionFileVersion version, byte[] payload, int compressedSize) {
+    }
+
+    private record ChunkResult(ChunkPos pos, CompoundTag root) {
+    }
+}
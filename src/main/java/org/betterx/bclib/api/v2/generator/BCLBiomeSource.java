@@ -109,6 +109,13 @@ public abstract class BCLBiomeSource extends BiomeSource implements BiomeSourceW
     }
 
 
+    private record PickerCandidate(
+            ResourceKey<Biome> key,
+            BCLBiome bclBiome,
+            List<Map.Entry<BiomeAPI.BiomeType, BiomePicker>> pickers
+    ) {
+    }
+
     protected static Set<Holder<Biome>> populateBiomePickers(
             Map<BiomeAPI.BiomeType, BiomePicker> acceptedBiomeTypes,
             BiomeAPI.BiomeType exclusionListType,
@@ -135,42 +142,49 @@ public abstract class BCLBiomeSource extends BiomeSource implements BiomeSourceW
                 .sorted(Comparator.comparing(a -> a.getKey().location().toString()))
                 .toList();
 
+        //wrappers for unknown biomes are registered before any biome is added to a picker, so the
+        //sub-biome index of the BCLBiomeRegistry only needs to be built once
+        final List<PickerCandidate> candidates = new ArrayList<>(sortedList.size());
         for (Map.Entry<ResourceKey<Biome>, Biome> biomeEntry : sortedList) {
             if (excludeList.contains(biomeEntry.getKey().location())) continue;
 
             BiomeAPI.BiomeType type = BiomeAPI.BiomeType.NONE;
-            boolean foundBCLBiome = false;
-            if (BCLBiomeRegistry.hasBiome(biomeEntry.getKey(), bclBiomes)) {
-                foundBCLBiome = true;
-                type = BCLBiomeRegistry.getBiome(biomeEntry.getKey(), bclBiomes).getIntendedType();
+            BCLBiome bclBiome = BCLBiomeRegistry.getBiomeOrNull(biomeEntry.getKey(), bclBiomes);
+            if (bclBiome != null) {
+                type = bclBiome.getIntendedType();
             } else {
                 type = typeFinder.find(biomeEntry.getKey(), type);
             }
 
             type = getBiomeType(includeMap, biomeEntry.getKey(), type);
 
+            final List<Map.Entry<BiomeAPI.BiomeType, BiomePicker>> pickers = new ArrayList<>(1);
             for (Map.Entry<BiomeAPI.BiomeType, BiomePicker> pickerEntry : acceptedBiomeTypes.entrySet()) {
                 if (type.is(pickerEntry.getKey())) {
-                    BCLBiome bclBiome;
-                    if (foundBCLBiome) {
-                        bclBiome = BCLBiomeRegistry.getBiome(biomeEntry.getKey(), bclBiomes);
-                    } else {
-                        //create and register a biome wrapper
-                        bclBiome = new BCLBiome(biomeEntry.getKey().location(), type);
-                        BCLBiomeRegistry.register(bclBiome);
-                        foundBCLBiome = true;
-                    }
+                    pickers.add(pickerEntry);
+                }
+            }
+            if (pickers.isEmpty()) continue;
 
-                    boolean isPossible;
-                    if (!bclBiome.hasParentBiome()) {
-                        isPossible = pickerAdder.add(bclBiome, pickerEntry.getKey(), pickerEntry.getValue());
-                    } else {
-                        isPossible = true;
-                    }
+            if (bclBiome == null) {
+                //create and register a biome wrapper
+                bclBiome = new BCLBiome(biomeEntry.getKey().location(), type);
+                BCLBiomeRegistry.register(bclBiome);
+            }
+            candidates.add(new PickerCandidate(biomeEntry.getKey(), bclBiome, pickers));
+        }
 
-                    if (isPossible) {
-                        allBiomes.add(biomes.getHolderOrThrow(biomeEntry.getKey()));
-                    }
+        for (PickerCandidate candidate : candidates) {
+            for (Map.Entry<BiomeAPI.BiomeType, BiomePicker> pickerEntry : candidate.pickers) {
+                boolean isPossible;
+                if (!candidate.bclBiome.hasParentBiome()) {
+                    isPossible = pickerAdder.add(candidate.bclBiome, pickerEntry.getKey(), pickerEntry.getValue());
+                } else {
+                    isPossible = true;
+                }
+
+                if (isPossible) {
+                    allBiomes.add(biomes.getHolderOrThrow(candidate.key));
                 }
             }
         }
@@ -197,6 +211,7 @@ public abstract class BCLBiomeSource extends BiomeSource implements BiomeSourceW
             BCLib.LOGGER.info("Updating Pickers for " + this.toShortString());
         }
 
+        final long start = System.nanoTime();
         Map<BiomeAPI.BiomeType, BiomePicker> pickerMap = createFreshPickerMap();
         this.dynamicPossibleBiomes = populateBiomePickers(
                 pickerMap,
@@ -211,6 +226,11 @@ public abstract class BCLBiomeSource extends BiomeSource implements BiomeSourceW
         }
 
         onFinishBiomeRebuild(pickerMap);
+
+        if (Configs.MAIN_CONFIG.verboseLogging()) {
+            BCLib.LOGGER.info("Updated Pickers for " + this.toShortString() + " in "
+                    + (System.nanoTime() - start) / 1_000_000 + "ms");
+        }
     }
 
     @Override
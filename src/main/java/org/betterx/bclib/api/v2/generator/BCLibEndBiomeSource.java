@@ -2,6 +2,7 @@ package org.betterx.bclib.api.v2.generator;
 
 import org.betterx.bclib.BCLib;
 import org.betterx.bclib.api.v2.generator.config.BCLEndBiomeSourceConfig;
+import org.betterx.bclib.api.v2.generator.map.BiomeColumnCache;
 import org.betterx.bclib.api.v2.levelgen.biomes.BCLBiome;
 import org.betterx.bclib.api.v2.levelgen.biomes.BiomeAPI;
 import org.betterx.bclib.config.Configs;
@@ -52,6 +53,10 @@ public class BCLibEndBiomeSource extends BCLBiomeSource implements BiomeSourceWi
     private BiomeMap mapVoid;
     private BiomeMap mapCenter;
     private BiomeMap mapBarrens;
+    private BiomeColumnCache columnsLand;
+    private BiomeColumnCache columnsVoid;
+    private BiomeColumnCache columnsCenter;
+    private BiomeColumnCache columnsBarrens;
 
     private BiomePicker endLandBiomePicker;
     private BiomePicker endVoidBiomePicker;
@@ -218,6 +223,11 @@ public class BCLibEndBiomeSource extends BCLBiomeSource implements BiomeSourceWi
                 config.barrensBiomesSize,
                 endBarrensBiomePicker
         );
+
+        this.columnsLand = new BiomeColumnCache(mapLand);
+        this.columnsVoid = new BiomeColumnCache(mapVoid);
+        this.columnsCenter = new BiomeColumnCache(mapCenter);
+        this.columnsBarrens = new BiomeColumnCache(mapBarrens);
     }
 
     @Override
@@ -229,7 +239,7 @@ public class BCLibEndBiomeSource extends BCLBiomeSource implements BiomeSourceWi
     public Holder<Biome> getNoiseBiome(int biomeX, int biomeY, int biomeZ, Climate.@NotNull Sampler sampler) {
         if (!wasBound()) reloadBiomes(false);
 
-        if (mapLand == null || mapVoid == null || mapCenter == null || mapBarrens == null)
+        if (columnsLand == null || columnsVoid == null || columnsCenter == null || columnsBarrens == null)
             return this.possibleBiomes().stream().findFirst().orElseThrow();
 
         int posX = QuartPos.toBlock(biomeX);
@@ -288,10 +298,13 @@ public class BCLibEndBiomeSource extends BCLBiomeSource implements BiomeSourceWi
             }
         }
 
-        if (suggestedType.is(BiomeAPI.BiomeType.END_CENTER)) return mapCenter.getBiome(posX, posY, posZ).biome;
-        if (suggestedType.is(BiomeAPI.BiomeType.END_VOID)) return mapVoid.getBiome(posX, posY, posZ).biome;
-        if (suggestedType.is(BiomeAPI.BiomeType.END_BARRENS)) return mapBarrens.getBiome(posX, posY, posZ).biome;
-        return mapLand.getBiome(posX, posY, posZ).biome;
+        if (suggestedType.is(BiomeAPI.BiomeType.END_CENTER))
+            return columnsCenter.getBiome(biomeX, biomeY, biomeZ).biome;
+        if (suggestedType.is(BiomeAPI.BiomeType.END_VOID))
+            return columnsVoid.getBiome(biomeX, biomeY, biomeZ).biome;
+        if (suggestedType.is(BiomeAPI.BiomeType.END_BARRENS))
+            return columnsBarrens.getBiome(biomeX, biomeY, biomeZ).biome;
+        return columnsLand.getBiome(biomeX, biomeY, biomeZ).biome;
     }
 
 
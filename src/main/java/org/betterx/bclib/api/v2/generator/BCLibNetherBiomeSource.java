@@ -3,6 +3,7 @@ package org.betterx.bclib.api.v2.generator;
 import org.betterx.bclib.BCLib;
 import org.betterx.bclib.api.v2.generator.config.BCLNetherBiomeSourceConfig;
 import org.betterx.bclib.api.v2.generator.config.MapBuilderFunction;
+import org.betterx.bclib.api.v2.generator.map.BiomeColumnCache;
 import org.betterx.bclib.api.v2.generator.map.MapStack;
 import org.betterx.bclib.api.v2.levelgen.biomes.BiomeAPI;
 import org.betterx.bclib.interfaces.BiomeMap;
@@ -42,6 +43,7 @@ public class BCLibNetherBiomeSource extends BCLBiomeSource implements BiomeSourc
                     .apply(instance, instance.stable(BCLibNetherBiomeSource::new))
             );
     private BiomeMap biomeMap;
+    private BiomeColumnCache biomeColumns;
     private BiomePicker biomePicker;
     private BCLNetherBiomeSourceConfig config;
 
@@ -101,13 +103,14 @@ public class BCLibNetherBiomeSource extends BCLBiomeSource implements BiomeSourc
     public Holder<Biome> getNoiseBiome(int biomeX, int biomeY, int biomeZ, Climate.Sampler var4) {
         if (!wasBound()) reloadBiomes(false);
 
-        if (biomeMap == null)
+        final BiomeColumnCache columns = biomeColumns;
+        if (columns == null)
             return this.possibleBiomes().stream().findFirst().get();
 
         if ((biomeX & 63) == 0 && (biomeZ & 63) == 0) {
-            biomeMap.clearCache();
+            columns.getMap().clearCache();
         }
-        BiomePicker.ActualBiome bb = biomeMap.getBiome(biomeX << 2, biomeY << 2, biomeZ << 2);
+        BiomePicker.ActualBiome bb = columns.getBiome(biomeX, biomeY, biomeZ);
         return bb.biome;
     }
 
@@ -135,6 +138,7 @@ public class BCLibNetherBiomeSource extends BCLBiomeSource implements BiomeSourc
                     biomePicker
             );
         }
+        this.biomeColumns = new BiomeColumnCache(this.biomeMap);
     }
 
     @Override
@@ -20,12 +20,14 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 public class BiomePicker {
     private final Map<BCLBiome, ActualBiome> all = new HashMap<>();
     public final HolderGetter<Biome> biomeRegistry;
     private final List<ActualBiome> biomes = Lists.newArrayList();
-    private final List<String> allowedBiomes;
+    private final Set<String> allowedBiomes;
     public final ActualBiome fallbackBiome;
     private WeighTree<ActualBiome> tree;
 
@@ -49,7 +51,8 @@ public class BiomePicker {
                 .stream()
                 .map(h -> h.unwrapKey())
                 .filter(o -> o.isPresent())
-                .map(o -> o.get().location().toString()).toList() : null;
+                .map(o -> o.get().location().toString())
+                .collect(Collectors.toSet()) : null;
         this.fallbackBiome = create(BCLBiomeRegistry.EMPTY_BIOME);
     }
 
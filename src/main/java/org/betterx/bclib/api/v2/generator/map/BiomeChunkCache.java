@@ -0,0 +1,235 @@
+package org.betterx.bclib.api.v2.generator.map;
+
+import org.betterx.bclib.interfaces.BiomeChunk;
+
+import net.minecraft.world.level.ChunkPos;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free, size-bounded cache for {@link BiomeChunk}s that is shared by all worldgen threads.
+ * <p>
+ * Chunks are keyed by their packed {@link ChunkPos#asLong(int, int)} coordinate and stored in a
+ * set-associative table. When all slots of a set are taken, an entry is evicted using the CLOCK
+ * (second chance) strategy, so recently used chunks survive while old ones are dropped one at a time
+ * instead of clearing the whole cache.
+ *
+ * @param <T> The type of the cached chunks
+ */
+public class BiomeChunkCache<T extends BiomeChunk> {
+    private static final int WAYS = 4;
+
+    private final AtomicReferenceArray<Entry<T>> table;
+    private final int setMask;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * @param capacity The maximum number of chunks in the cache. The value is rounded up to the next
+     *                 power of two (and to at least {@value #WAYS} entries).
+     */
+    public BiomeChunkCache(int capacity) {
+        int sets = Math.max(1, Integer.highestOneBit(Math.max(capacity, WAYS) - 1) * 2 / WAYS);
+        this.setMask = sets - 1;
+        this.table = new AtomicReferenceArray<>(sets * WAYS);
+    }
+
+    /**
+     * Returns the cached chunk at the given position, or creates a new one.
+     * <p>
+     * If the chunk was created, {@code onCreate} is called before it is inserted into the cache, so
+     * other threads never see a chunk that was not processed yet. Two threads racing for the same
+     * missing chunk may both create and process an instance, but only one of them stays in the cache.
+     *
+     * @param cx       The x-coordinate of the chunk
+     * @param cz       The z-coordinate of the chunk
+     * @param factory  Creates a chunk for a position that is not cached
+     * @param onCreate Called for every chunk that was created by this call (may be null)
+     * @return The cached or newly created chunk
+     */
+    public T get(int cx, int cz, ChunkFactory<T> factory, ChunkListener<T> onCreate) {
+        final long key = ChunkPos.asLong(cx, cz);
+        final int base = indexFor(key);
+
+        for (int i = 0; i < WAYS; i++) {
+            Entry<T> entry = table.get(base + i);
+            if (entry != null && entry.key == key) {
+                if (!entry.referenced) entry.referenced = true;
+                hits.increment();
+                return entry.value;
+            }
+        }
+
+        misses.increment();
+        T chunk = factory.create(cx, cz);
+        if (onCreate != null) {
+            onCreate.onCreate(cx, cz, chunk);
+        }
+        insert(base, new Entry<>(key, chunk));
+        return chunk;
+    }
+
+    /**
+     * Creates a {@link Lookup} for one caller that resolves many neighbouring positions.
+     *
+     * @param factory  Creates a chunk for a position that is not cached
+     * @param onCreate Called for every chunk that was created by the lookup (may be null)
+     * @return A new lookup, which must not be shared between threads
+     */
+    public Lookup<T> lookup(ChunkFactory<T> factory, ChunkListener<T> onCreate) {
+        return new Lookup<>(this, factory, onCreate);
+    }
+
+    private void insert(int base, Entry<T> newEntry) {
+        //first pass: reuse a free slot
+        for (int i = 0; i < WAYS; i++) {
+            if (table.get(base + i) == null && table.compareAndSet(base + i, null, newEntry)) {
+                return;
+            }
+        }
+
+        //CLOCK sweep: every referenced entry gets a second chance, the first unreferenced one is replaced
+        final int start = (int) (newEntry.key ^ (newEntry.key >>> 32)) & (WAYS - 1);
+        for (int n = 0; n < WAYS * 2; n++) {
+            final int index = base + ((start + n) & (WAYS - 1));
+            Entry<T> old = table.get(index);
+            if (old == null) {
+                if (table.compareAndSet(index, null, newEntry)) return;
+            } else if (old.referenced) {
+                old.referenced = false;
+            } else if (table.compareAndSet(index, old, newEntry)) {
+                evictions.increment();
+                return;
+            }
+        }
+
+        //all entries were touched concurrently, replace the slot we started with
+        Entry<T> old = table.getAndSet(base + start, newEntry);
+        if (old != null) {
+            evictions.increment();
+        }
+    }
+
+    /**
+     * Removes all chunks from the cache. The statistics are not reset.
+     */
+    public void clear() {
+        for (int i = 0; i < table.length(); i++) {
+            table.set(i, null);
+        }
+    }
+
+    /**
+     * @return The maximum number of chunks this cache can hold
+     */
+    public int capacity() {
+        return table.length();
+    }
+
+    public int size() {
+        int count = 0;
+        for (int i = 0; i < table.length(); i++) {
+            if (table.get(i) != null) count++;
+        }
+        return count;
+    }
+
+    public Stats getStats() {
+        return new Stats(hits.sum(), misses.sum(), evictions.sum(), size(), capacity());
+    }
+
+    private int indexFor(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        h ^= h >>> 32;
+        return ((int) h & setMask) * WAYS;
+    }
+
+    @FunctionalInterface
+    public interface ChunkFactory<T extends BiomeChunk> {
+        T create(int cx, int cz);
+    }
+
+    @FunctionalInterface
+    public interface ChunkListener<T extends BiomeChunk> {
+        void onCreate(int cx, int cz, T chunk);
+    }
+
+    /**
+     * Remembers the last chunk it returned, so positions in the same chunk do not query the cache again.
+     */
+    public static final class Lookup<T extends BiomeChunk> {
+        private final BiomeChunkCache<T> cache;
+        private final ChunkFactory<T> factory;
+        private final ChunkListener<T> onCreate;
+        private T chunk;
+        private int cx;
+        private int cz;
+
+        private Lookup(BiomeChunkCache<T> cache, ChunkFactory<T> factory, ChunkListener<T> onCreate) {
+            this.cache = cache;
+            this.factory = factory;
+            this.onCreate = onCreate;
+        }
+
+        public T get(int cx, int cz) {
+            if (chunk == null || this.cx != cx || this.cz != cz) {
+                chunk = cache.get(cx, cz, factory, onCreate);
+                this.cx = cx;
+                this.cz = cz;
+            }
+            return chunk;
+        }
+    }
+
+    private static final class Entry<T> {
+        final long key;
+        final T value;
+        //racy by design, a lost update only changes which entry gets evicted next
+        boolean referenced;
+
+        Entry(long key, T value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
+
+    /**
+     * A snapshot of the counters of one (or the sum of multiple) {@link BiomeChunkCache}s.
+     *
+     * @param hits      Number of lookups that found a cached chunk
+     * @param misses    Number of lookups that had to create a new chunk
+     * @param evictions Number of chunks that were dropped to make room for a new one
+     * @param size      Number of chunks currently cached
+     * @param capacity  Maximum number of chunks that can be cached
+     */
+    public record Stats(long hits, long misses, long evictions, int size, int capacity) {
+        public static final Stats EMPTY = new Stats(0, 0, 0, 0, 0);
+
+        public Stats add(Stats other) {
+            return new Stats(
+                    hits + other.hits,
+                    misses + other.misses,
+                    evictions + other.evictions,
+                    size + other.size,
+                    capacity + other.capacity
+            );
+        }
+
+        public double hitRate() {
+            final long total = hits + misses;
+            return total == 0 ? 0 : (double) hits / total;
+        }
+
+        @Override
+        public String toString() {
+            return "BiomeChunkCache{hits=" + hits
+                    + ", misses=" + misses
+                    + ", evictions=" + evictions
+                    + ", size=" + size + "/" + capacity
+                    + ", hitRate=" + String.format("%.3f", hitRate())
+                    + "}";
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package org.betterx.bclib.api.v2.generator.map;
+
+import org.betterx.bclib.api.v2.generator.BiomePicker;
+import org.betterx.bclib.interfaces.BiomeMap;
+
+/**
+ * Resolves biomes of a {@link BiomeMap} one chunk column at a time.
+ * <p>
+ * Minecraft asks the BiomeSource for every quart of a chunk (4x4 per section and 4 quarts per section
+ * height). For maps that are not {@link BiomeMap#isHeightDependent() height dependent} all quarts of a
+ * column share the same biome, so the whole 4x4 area of the chunk is filled once using
+ * {@link BiomeMap#fillBiomes(int, int, int, int, int, BiomePicker.ActualBiome[])} and every following
+ * request for that chunk is a simple array lookup.
+ * <p>
+ * The filled area is stored per thread, so one instance can be shared by all worldgen threads.
+ */
+public class BiomeColumnCache {
+    private static final int SIDE = 4;
+    private static final int MASK = SIDE - 1;
+
+    private final BiomeMap map;
+    private final boolean heightDependent;
+    private final ThreadLocal<Column> columns = ThreadLocal.withInitial(Column::new);
+
+    public BiomeColumnCache(BiomeMap map) {
+        this.map = map;
+        this.heightDependent = map.isHeightDependent();
+    }
+
+    public BiomeMap getMap() {
+        return map;
+    }
+
+    /**
+     * Returns the biome at the given quart position.
+     *
+     * @param quartX x-coordinate in quarts
+     * @param quartY y-coordinate in quarts
+     * @param quartZ z-coordinate in quarts
+     * @return The biome at the given position
+     */
+    public BiomePicker.ActualBiome getBiome(int quartX, int quartY, int quartZ) {
+        if (heightDependent) {
+            return map.getBiome(quartX << 2, quartY << 2, quartZ << 2);
+        }
+
+        final int startX = quartX & ~MASK;
+        final int startZ = quartZ & ~MASK;
+        final Column column = columns.get();
+        if (!column.filled || column.x != startX || column.z != startZ) {
+            map.fillBiomes(startX, quartY, startZ, SIDE, SIDE, column.biomes);
+            column.x = startX;
+            column.z = startZ;
+            column.filled = true;
+        }
+
+        return column.biomes[(quartX & MASK) * SIDE + (quartZ & MASK)];
+    }
+
+    private static class Column {
+        final BiomePicker.ActualBiome[] biomes = new BiomePicker.ActualBiome[SIDE * SIDE];
+        int x;
+        int z;
+        boolean filled;
+    }
+}
@@ -0,0 +1,95 @@
+package org.betterx.bclib.api.v2.generator.map;
+
+import org.betterx.bclib.api.v2.generator.BiomePicker;
+
+/**
+ * Computes, for every cell of a square biome chunk, a lower bound of the chebyshev distance to the
+ * next cell that holds a different biome.
+ * <p>
+ * Cells outside the chunk are unknown and are treated as foreign, so the distance of a cell is never
+ * larger than its distance to the chunk border. The result is conservative: every cell closer than
+ * the stored value is guaranteed to hold the same {@link BiomePicker.ActualBiome} instance.
+ */
+public final class EdgeDistanceField {
+    public static final int MAX_DISTANCE = Byte.MAX_VALUE;
+
+    private EdgeDistanceField() {
+    }
+
+    /**
+     * @param biomes The biomes of the chunk in x-major order ({@code biomes[x * side + z]})
+     * @param side   The width of the chunk
+     * @return The distance of every cell, using the same layout as {@code biomes}
+     */
+    public static byte[] compute(BiomePicker.ActualBiome[] biomes, int side) {
+        return compute(biomes, side, side);
+    }
+
+    /**
+     * @param biomes     The biomes of the chunk in x-major order ({@code biomes[x * side + z]})
+     * @param side       The width of the chunk
+     * @param usableSide Cells with a coordinate of at least this value are treated as foreign, for maps
+     *                   that resolve them from a neighbouring chunk
+     * @return The distance of every cell, using the same layout as {@code biomes}
+     */
+    public static byte[] compute(BiomePicker.ActualBiome[] biomes, int side, int usableSide) {
+        final int[] dist = new int[side * side];
+
+        for (int x = 0; x < side; x++) {
+            for (int z = 0; z < side; z++) {
+                final int index = x * side + z;
+                int d = Math.max(0, Math.min(Math.min(x + 1, z + 1), Math.min(usableSide - x, usableSide - z)));
+                if (d > 1 && hasForeignNeighbour(biomes, side, x, z)) {
+                    d = 1;
+                }
+                dist[index] = d;
+            }
+        }
+
+        //two pass chamfer transform using the chebyshev metric
+        for (int x = 0; x < side; x++) {
+            for (int z = 0; z < side; z++) {
+                final int index = x * side + z;
+                int d = dist[index];
+                if (z > 0) d = Math.min(d, dist[index - 1] + 1);
+                if (x > 0) {
+                    final int row = index - side;
+                    d = Math.min(d, dist[row] + 1);
+                    if (z > 0) d = Math.min(d, dist[row - 1] + 1);
+                    if (z < side - 1) d = Math.min(d, dist[row + 1] + 1);
+                }
+                dist[index] = d;
+            }
+        }
+
+        final byte[] result = new byte[side * side];
+        for (int x = side - 1; x >= 0; x--) {
+            for (int z = side - 1; z >= 0; z--) {
+                final int index = x * side + z;
+                int d = dist[index];
+                if (z < side - 1) d = Math.min(d, dist[index + 1] + 1);
+                if (x < side - 1) {
+                    final int row = index + side;
+                    d = Math.min(d, dist[row] + 1);
+                    if (z > 0) d = Math.min(d, dist[row - 1] + 1);
+                    if (z < side - 1) d = Math.min(d, dist[row + 1] + 1);
+                }
+                dist[index] = d;
+                result[index] = (byte) Math.min(d, MAX_DISTANCE);
+            }
+        }
+
+        return result;
+    }
+
+    private static boolean hasForeignNeighbour(BiomePicker.ActualBiome[] biomes, int side, int x, int z) {
+        final BiomePicker.ActualBiome self = biomes[x * side + z];
+        for (int dx = -1; dx <= 1; dx++) {
+            final int offset = (x + dx) * side;
+            for (int dz = -1; dz <= 1; dz++) {
+                if (biomes[offset + z + dz] != self) return true;
+            }
+        }
+        return false;
+    }
+}
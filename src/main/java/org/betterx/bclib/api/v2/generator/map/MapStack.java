@@ -38,7 +38,8 @@ public class MapStack implements BiomeMap {
         Random random = new Random(seed);
         for (int i = 0; i < mapCount; i++) {
             maps[i] = mapConstructor.create(random.nextLong(), size, picker);
-            maps[i].setChunkProcessor(this::onChunkCreation);
+            final int mapIndex = i;
+            maps[i].setChunkProcessor((cx, cz, chunk) -> onChunkCreation(mapIndex, cx, cz, chunk));
         }
         noise = new OpenSimplexNoise(random.nextInt());
     }
@@ -51,7 +52,16 @@ public class MapStack implements BiomeMap {
     }
 
     @Override
-    public void setChunkProcessor(TriConsumer<Integer, Integer, Integer> processor) {
+    public BiomeChunkCache.Stats getCacheStats() {
+        BiomeChunkCache.Stats stats = BiomeChunkCache.Stats.EMPTY;
+        for (BiomeMap map : maps) {
+            stats = stats.add(map.getCacheStats());
+        }
+        return stats;
+    }
+
+    @Override
+    public void setChunkProcessor(TriConsumer<Integer, Integer, BiomeChunk> processor) {
     }
 
     @Override
@@ -78,13 +88,15 @@ public class MapStack implements BiomeMap {
         return maps[mapIndex].getBiome(x, y, z);
     }
 
-    private void onChunkCreation(int cx, int cz, int side) {
+    private void onChunkCreation(int mapIndex, int cx, int cz, BiomeChunk created) {
+        final int side = created.getSide();
         BiomePicker.ActualBiome[][] biomeMap = new BiomePicker.ActualBiome[side][side];
         BiomeChunk[] chunks = new BiomeChunk[maps.length];
 
         boolean isNoEmpty = false;
         for (int i = 0; i < maps.length; i++) {
-            chunks[i] = maps[i].getChunk(cx, cz, false);
+            //the new chunk is not in the cache of its map yet
+            chunks[i] = i == mapIndex ? created : maps[i].getChunk(cx, cz, false);
             for (int x = 0; x < side; x++) {
                 for (int z = 0; z < side; z++) {
                     if (biomeMap[x][z] == null) {
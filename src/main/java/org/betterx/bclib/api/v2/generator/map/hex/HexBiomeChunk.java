@@ -2,6 +2,7 @@ package org.betterx.bclib.api.v2.generator.map.hex;
 
 import org.betterx.bclib.BCLib;
 import org.betterx.bclib.api.v2.generator.BiomePicker;
+import org.betterx.bclib.api.v2.generator.map.EdgeDistanceField;
 import org.betterx.bclib.interfaces.BiomeChunk;
 
 import net.minecraft.world.level.levelgen.WorldgenRandom;
@@ -22,6 +23,7 @@ public class HexBiomeChunk implements BiomeChunk {
     private static final short[][] NEIGHBOURS;
 
     private final BiomePicker.ActualBiome[] biomes = new BiomePicker.ActualBiome[SIZE];
+    private volatile byte[] edgeDistance;
 
     public HexBiomeChunk(WorldgenRandom random, BiomePicker picker) {
         BiomePicker.ActualBiome[][] buffers = new BiomePicker.ActualBiome[2][SIZE];
@@ -126,8 +128,26 @@ public class HexBiomeChunk implements BiomeChunk {
     }
 
     @Override
-    public void setBiome(int x, int z, BiomePicker.ActualBiome biome) {
+    public synchronized void setBiome(int x, int z, BiomePicker.ActualBiome biome) {
         biomes[getIndex(wrap(x), wrap(z))] = biome;
+        edgeDistance = null;
+    }
+
+    @Override
+    public int getEdgeDistance(int x, int z) {
+        byte[] distance = edgeDistance;
+        if (distance == null) {
+            distance = buildEdgeDistance();
+        }
+        return distance[getIndex(wrap(x), wrap(z))];
+    }
+
+    private synchronized byte[] buildEdgeDistance() {
+        if (edgeDistance == null) {
+            //the last row and column are replaced by the first one of the next chunk in HexBiomeMap
+            edgeDistance = EdgeDistanceField.compute(biomes, SIDE, SIDE_MASK);
+        }
+        return edgeDistance;
     }
 
     @Override
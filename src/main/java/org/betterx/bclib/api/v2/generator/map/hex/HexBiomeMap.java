@@ -1,6 +1,7 @@
 package org.betterx.bclib.api.v2.generator.map.hex;
 
 import org.betterx.bclib.api.v2.generator.BiomePicker;
+import org.betterx.bclib.api.v2.generator.map.BiomeChunkCache;
 import org.betterx.bclib.interfaces.BiomeChunk;
 import org.betterx.bclib.interfaces.BiomeMap;
 import org.betterx.bclib.interfaces.TriConsumer;
@@ -8,12 +9,8 @@ import org.betterx.bclib.noise.OpenSimplexNoise;
 import org.betterx.bclib.util.MHelper;
 
 import net.minecraft.util.RandomSource;
-import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.levelgen.WorldgenRandom;
 
-import com.google.common.collect.Maps;
-
-import java.util.Map;
 import java.util.Random;
 
 public class HexBiomeMap implements BiomeMap {
@@ -24,18 +21,26 @@ public class HexBiomeMap implements BiomeMap {
     private static final float COS = (float) Math.cos(0.4);
     private static final float[] EDGE_CIRCLE_X;
     private static final float[] EDGE_CIRCLE_Z;
+    public static final int DEFAULT_CACHE_SIZE = 512;
 
-    private final Map<ChunkPos, HexBiomeChunk> chunks = Maps.newConcurrentMap();
+    private final BiomeChunkCache<HexBiomeChunk> chunks;
+    private final BiomeChunkCache.ChunkFactory<HexBiomeChunk> chunkFactory = this::createChunk;
+    private final BiomeChunkCache.ChunkListener<HexBiomeChunk> chunkListener = this::onChunkCreated;
     private final BiomePicker picker;
 
     private final OpenSimplexNoise[] noises = new OpenSimplexNoise[2];
-    private TriConsumer<Integer, Integer, Integer> processor;
+    private TriConsumer<Integer, Integer, BiomeChunk> processor;
     private final byte noiseIterations;
     private final float scale;
     private final int seed;
 
     public HexBiomeMap(long seed, int size, BiomePicker picker) {
+        this(seed, size, picker, DEFAULT_CACHE_SIZE);
+    }
+
+    public HexBiomeMap(long seed, int size, BiomePicker picker, int cacheSize) {
         this.picker = picker;
+        this.chunks = new BiomeChunkCache<>(cacheSize);
         this.scale = HexBiomeChunk.scaleMap(size);
         Random random = new Random(seed);
 
@@ -47,14 +52,43 @@ public class HexBiomeMap implements BiomeMap {
 
     @Override
     public void clearCache() {
-        if (chunks.size() > 127) {
-            chunks.clear();
-        }
+        //the chunk cache is bounded and evicts old entries on its own
+    }
+
+    @Override
+    public BiomeChunkCache.Stats getCacheStats() {
+        return chunks.getStats();
     }
 
     @Override
     public BiomePicker.ActualBiome getBiome(double x, double y, double z) {
-        BiomePicker.ActualBiome biome = getRawBiome(x, z);
+        return getBiome(x, z, chunks.lookup(chunkFactory, chunkListener));
+    }
+
+    @Override
+    public void fillBiomes(int quartX, int quartY, int quartZ, int width, int depth, BiomePicker.ActualBiome[] out) {
+        //neighbouring columns (and their edge probes) mostly share a chunk, so it is only looked up when it changes
+        final BiomeChunkCache.Lookup<HexBiomeChunk> lookup = chunks.lookup(chunkFactory, chunkListener);
+        for (int x = 0; x < width; x++) {
+            final double bx = (quartX + x) << 2;
+            final int offset = x * depth;
+            for (int z = 0; z < depth; z++) {
+                out[offset + z] = getBiome(bx, (quartZ + z) << 2, lookup);
+            }
+        }
+    }
+
+    private BiomePicker.ActualBiome getBiome(double x, double z, BiomeChunkCache.Lookup<HexBiomeChunk> lookup) {
+        final long cell = getRawCell(x, z);
+        final int cellX = unpackX(cell);
+        final int cellZ = unpackZ(cell);
+        //border cells are resolved from the neighbouring chunk, there is no edge distance for them
+        final boolean border = HexBiomeChunk.isBorder(cellX) || HexBiomeChunk.isBorder(cellZ);
+        final HexBiomeChunk chunk = border ? null : lookup.get(
+                HexBiomeChunk.scaleCoordinate(cellX),
+                HexBiomeChunk.scaleCoordinate(cellZ)
+        );
+        BiomePicker.ActualBiome biome = border ? getChunkBiome(cellX, cellZ, lookup) : chunk.getBiome(cellX, cellZ);
         BiomePicker.ActualBiome edge = biome.getEdge();
         int size = biome.bclBiome.settings.getEdgeSize();
 
@@ -67,8 +101,13 @@ public class HexBiomeMap implements BiomeMap {
             return biome;
         }
 
+        //none of the probes can leave the area around the cell that is known to hold the same biome
+        if (!border && chunk.getEdgeDistance(cellX, cellZ) > edgeProbeRadius(size)) {
+            return biome;
+        }
+
         for (byte i = 0; i < 8; i++) {
-            if (!getRawBiome(x + size * EDGE_CIRCLE_X[i], z + size * EDGE_CIRCLE_Z[i]).isSame(biome)) {
+            if (!getRawBiome(x + size * EDGE_CIRCLE_X[i], z + size * EDGE_CIRCLE_Z[i], lookup).isSame(biome)) {
                 return edge;
             }
         }
@@ -76,27 +115,47 @@ public class HexBiomeMap implements BiomeMap {
         return biome;
     }
 
+    /**
+     * Upper bound for the number of cells between the cell of a position and the cells of its edge probes.
+     * It covers the probe distance, the maximum difference of the domain warp (each octave returns at most
+     * 1, scaled by 0.2 and 1/i), the row offset, rounding and the selection of the neighbouring hexagon.
+     */
+    private int edgeProbeRadius(int size) {
+        return (int) Math.ceil(size / scale) + 5;
+    }
+
     @Override
     public BiomeChunk getChunk(final int cx, final int cz, final boolean update) {
-        final ChunkPos pos = new ChunkPos(cx, cz);
-        HexBiomeChunk chunk = chunks.get(pos);
-        if (chunk == null) {
-            WorldgenRandom random = new WorldgenRandom(RandomSource.create(MHelper.getSeed(seed, cx, cz)));
-            chunk = new HexBiomeChunk(random, picker);
-            if (update && processor != null) {
-                processor.accept(cx, cz, chunk.getSide());
-            }
-            chunks.put(pos, chunk);
+        return chunks.get(cx, cz, chunkFactory, update ? chunkListener : null);
+    }
+
+    private HexBiomeChunk createChunk(int cx, int cz) {
+        WorldgenRandom random = new WorldgenRandom(RandomSource.create(MHelper.getSeed(seed, cx, cz)));
+        return new HexBiomeChunk(random, picker);
+    }
+
+    private void onChunkCreated(int cx, int cz, HexBiomeChunk chunk) {
+        if (processor != null) {
+            processor.accept(cx, cz, chunk);
         }
-        return chunk;
     }
 
     @Override
-    public void setChunkProcessor(TriConsumer<Integer, Integer, Integer> processor) {
+    public boolean isHeightDependent() {
+        return false;
+    }
+
+    @Override
+    public void setChunkProcessor(TriConsumer<Integer, Integer, BiomeChunk> processor) {
         this.processor = processor;
     }
 
-    private BiomePicker.ActualBiome getRawBiome(double x, double z) {
+    private BiomePicker.ActualBiome getRawBiome(double x, double z, BiomeChunkCache.Lookup<HexBiomeChunk> lookup) {
+        final long cell = getRawCell(x, z);
+        return getChunkBiome(unpackX(cell), unpackZ(cell), lookup);
+    }
+
+    private long getRawCell(double x, double z) {
         double px = x / scale * RAD_INNER;
         double pz = z / scale;
         double dx = rotateX(px, pz);
@@ -122,20 +181,32 @@ public class HexBiomeMap implements BiomeMap {
         float pointZ = (float) (pz - cellZ - 0.5);
 
         if (Math.abs(pointZ) < 0.3333F) {
-            return getChunkBiome(cellX, cellZ);
+            return packCell(cellX, cellZ);
         }
 
         if (insideHexagon(0, 0, 1.1555F, pointZ * RAD_INNER, pointX)) {
-            return getChunkBiome(cellX, cellZ);
+            return packCell(cellX, cellZ);
         }
 
         cellX = pointX < 0 ? (offset ? cellX - 1 : cellX) : (offset ? cellX : cellX + 1);
         cellZ = pointZ < 0 ? cellZ - 1 : cellZ + 1;
 
-        return getChunkBiome(cellX, cellZ);
+        return packCell(cellX, cellZ);
+    }
+
+    private static long packCell(int x, int z) {
+        return ((long) x << 32) | (z & 0xFFFFFFFFL);
+    }
+
+    private static int unpackX(long cell) {
+        return (int) (cell >> 32);
+    }
+
+    private static int unpackZ(long cell) {
+        return (int) cell;
     }
 
-    private BiomePicker.ActualBiome getChunkBiome(int x, int z) {
+    private BiomePicker.ActualBiome getChunkBiome(int x, int z, BiomeChunkCache.Lookup<HexBiomeChunk> lookup) {
         int cx = HexBiomeChunk.scaleCoordinate(x);
         int cz = HexBiomeChunk.scaleCoordinate(z);
 
@@ -147,7 +218,7 @@ public class HexBiomeMap implements BiomeMap {
             cz += 1;
         }
 
-        return getChunk(cx, cz, true).getBiome(x, z);
+        return lookup.get(cx, cz).getBiome(x, z);
     }
 
     private boolean insideHexagon(float centerX, float centerZ, float radius, float x, float z) {
@@ -1,6 +1,7 @@
 package org.betterx.bclib.api.v2.generator.map.square;
 
 import org.betterx.bclib.api.v2.generator.BiomePicker;
+import org.betterx.bclib.api.v2.generator.map.EdgeDistanceField;
 import org.betterx.bclib.interfaces.BiomeChunk;
 
 import net.minecraft.world.level.levelgen.WorldgenRandom;
@@ -17,6 +18,7 @@ public class SquareBiomeChunk implements BiomeChunk {
     private static final int CAPACITY = WIDTH * WIDTH;
 
     private final BiomePicker.ActualBiome[] biomes;
+    private volatile byte[] edgeDistance;
 
     public SquareBiomeChunk(WorldgenRandom random, BiomePicker picker) {
         BiomePicker.ActualBiome[] PreBio = new BiomePicker.ActualBiome[SM_CAPACITY];
@@ -43,8 +45,25 @@ public class SquareBiomeChunk implements BiomeChunk {
     }
 
     @Override
-    public void setBiome(int x, int z, BiomePicker.ActualBiome biome) {
+    public synchronized void setBiome(int x, int z, BiomePicker.ActualBiome biome) {
         biomes[getIndex(x & MASK_WIDTH, z & MASK_WIDTH)] = biome;
+        edgeDistance = null;
+    }
+
+    @Override
+    public int getEdgeDistance(int x, int z) {
+        byte[] distance = edgeDistance;
+        if (distance == null) {
+            distance = buildEdgeDistance();
+        }
+        return distance[getIndex(x & MASK_WIDTH, z & MASK_WIDTH)];
+    }
+
+    private synchronized byte[] buildEdgeDistance() {
+        if (edgeDistance == null) {
+            edgeDistance = EdgeDistanceField.compute(biomes, WIDTH);
+        }
+        return edgeDistance;
     }
 
     @Override
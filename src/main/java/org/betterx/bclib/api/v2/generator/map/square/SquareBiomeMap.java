@@ -1,22 +1,22 @@
 package org.betterx.bclib.api.v2.generator.map.square;
 
 import org.betterx.bclib.api.v2.generator.BiomePicker;
+import org.betterx.bclib.api.v2.generator.map.BiomeChunkCache;
 import org.betterx.bclib.interfaces.BiomeChunk;
 import org.betterx.bclib.interfaces.BiomeMap;
 import org.betterx.bclib.interfaces.TriConsumer;
 import org.betterx.bclib.noise.OpenSimplexNoise;
 import org.betterx.bclib.util.MHelper;
 
-import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.levelgen.LegacyRandomSource;
 import net.minecraft.world.level.levelgen.WorldgenRandom;
 
-import com.google.common.collect.Maps;
-
-import java.util.Map;
-
 public class SquareBiomeMap implements BiomeMap {
-    private final Map<ChunkPos, SquareBiomeChunk> maps = Maps.newHashMap();
+    public static final int DEFAULT_CACHE_SIZE = 512;
+
+    private final BiomeChunkCache<SquareBiomeChunk> maps;
+    private final BiomeChunkCache.ChunkFactory<SquareBiomeChunk> chunkFactory = this::createChunk;
+    private final BiomeChunkCache.ChunkListener<SquareBiomeChunk> chunkListener = this::onChunkCreated;
     private final OpenSimplexNoise noiseX;
     private final OpenSimplexNoise noiseZ;
     private final WorldgenRandom random;
@@ -26,9 +26,14 @@ public class SquareBiomeMap implements BiomeMap {
     private final int depth;
     private final int size;
 
-    private TriConsumer<Integer, Integer, Integer> processor;
+    private TriConsumer<Integer, Integer, BiomeChunk> processor;
 
     public SquareBiomeMap(long seed, int size, BiomePicker picker) {
+        this(seed, size, picker, DEFAULT_CACHE_SIZE);
+    }
+
+    public SquareBiomeMap(long seed, int size, BiomePicker picker, int cacheSize) {
+        maps = new BiomeChunkCache<>(cacheSize);
         random = new WorldgenRandom(new LegacyRandomSource(seed));
         noiseX = new OpenSimplexNoise(random.nextLong());
         noiseZ = new OpenSimplexNoise(random.nextLong());
@@ -40,14 +45,38 @@ public class SquareBiomeMap implements BiomeMap {
 
     @Override
     public void clearCache() {
-        if (maps.size() > 32) {
-            maps.clear();
-        }
+        //the chunk cache is bounded and evicts old entries on its own
+    }
+
+    @Override
+    public BiomeChunkCache.Stats getCacheStats() {
+        return maps.getStats();
     }
 
     @Override
     public BiomePicker.ActualBiome getBiome(double x, double y, double z) {
-        BiomePicker.ActualBiome biome = getRawBiome(x, z);
+        return getBiome(x, z, maps.lookup(chunkFactory, null));
+    }
+
+    @Override
+    public void fillBiomes(int quartX, int quartY, int quartZ, int width, int depth, BiomePicker.ActualBiome[] out) {
+        //neighbouring columns (and their edge probes) mostly share a chunk, so it is only looked up when it changes
+        final BiomeChunkCache.Lookup<SquareBiomeChunk> lookup = maps.lookup(chunkFactory, null);
+        for (int x = 0; x < width; x++) {
+            final double bx = (quartX + x) << 2;
+            final int offset = x * depth;
+            for (int z = 0; z < depth; z++) {
+                out[offset + z] = getBiome(bx, (quartZ + z) << 2, lookup);
+            }
+        }
+    }
+
+    private BiomePicker.ActualBiome getBiome(double x, double z, BiomeChunkCache.Lookup<SquareBiomeChunk> lookup) {
+        final long cell = getRawCell(x, z);
+        final int cellX = unpackX(cell);
+        final int cellZ = unpackZ(cell);
+        final SquareBiomeChunk chunk = getCellChunk(cellX, cellZ, lookup);
+        BiomePicker.ActualBiome biome = chunk.getBiome(cellX, cellZ);
 
         if (biome.getEdge() != null || (biome.getParentBiome() != null && biome.getParentBiome().getEdge() != null)) {
             BiomePicker.ActualBiome search = biome;
@@ -56,14 +85,20 @@ public class SquareBiomeMap implements BiomeMap {
             }
 
             int size = search.bclBiome.settings.getEdgeSize();
-            boolean edge = !search.isSame(getRawBiome(x + size, z));
-            edge = edge || !search.isSame(getRawBiome(x - size, z));
-            edge = edge || !search.isSame(getRawBiome(x, z + size));
-            edge = edge || !search.isSame(getRawBiome(x, z - size));
-            edge = edge || !search.isSame(getRawBiome(x - 1, z - 1));
-            edge = edge || !search.isSame(getRawBiome(x - 1, z + 1));
-            edge = edge || !search.isSame(getRawBiome(x + 1, z - 1));
-            edge = edge || !search.isSame(getRawBiome(x + 1, z + 1));
+
+            //none of the probes can leave the area around the cell that is known to hold the same biome
+            if (chunk.getEdgeDistance(cellX, cellZ) > edgeProbeRadius(size)) {
+                return biome;
+            }
+
+            boolean edge = !search.isSame(getRawBiome(x + size, z, lookup));
+            edge = edge || !search.isSame(getRawBiome(x - size, z, lookup));
+            edge = edge || !search.isSame(getRawBiome(x, z + size, lookup));
+            edge = edge || !search.isSame(getRawBiome(x, z - size, lookup));
+            edge = edge || !search.isSame(getRawBiome(x - 1, z - 1, lookup));
+            edge = edge || !search.isSame(getRawBiome(x - 1, z + 1, lookup));
+            edge = edge || !search.isSame(getRawBiome(x + 1, z - 1, lookup));
+            edge = edge || !search.isSame(getRawBiome(x + 1, z + 1, lookup));
 
             if (edge) {
                 biome = search.getEdge();
@@ -73,31 +108,51 @@ public class SquareBiomeMap implements BiomeMap {
         return biome;
     }
 
+    /**
+     * Upper bound for the number of cells between the cell of a position and the cells of its edge probes.
+     * It covers the probe distance, the maximum difference of the domain warp (the octaves add up to less
+     * than 1), the shift of the last cell in a chunk and rounding.
+     */
+    private int edgeProbeRadius(int size) {
+        return (int) Math.ceil((double) size / sizeXZ) + 4;
+    }
+
     @Override
-    public void setChunkProcessor(TriConsumer<Integer, Integer, Integer> processor) {
+    public boolean isHeightDependent() {
+        return false;
+    }
+
+    @Override
+    public void setChunkProcessor(TriConsumer<Integer, Integer, BiomeChunk> processor) {
         this.processor = processor;
     }
 
     @Override
     public BiomeChunk getChunk(int cx, int cz, boolean update) {
-        ChunkPos cpos = new ChunkPos(cx, cz);
-        SquareBiomeChunk chunk = maps.get(cpos);
-        if (chunk == null) {
-            synchronized (random) {
-                random.setLargeFeatureWithSalt(0, cpos.x, cpos.z, 0);
-                chunk = new SquareBiomeChunk(random, picker);
-            }
-            maps.put(cpos, chunk);
+        return maps.get(cx, cz, chunkFactory, update ? chunkListener : null);
+    }
 
-            if (update && processor != null) {
-                processor.accept(cx, cz, chunk.getSide());
-            }
+    private SquareBiomeChunk createChunk(int cx, int cz) {
+        synchronized (random) {
+            random.setLargeFeatureWithSalt(0, cx, cz, 0);
+            return new SquareBiomeChunk(random, picker);
+        }
+    }
+
+    private void onChunkCreated(int cx, int cz, SquareBiomeChunk chunk) {
+        if (processor != null) {
+            processor.accept(cx, cz, chunk);
         }
+    }
 
-        return chunk;
+    private BiomePicker.ActualBiome getRawBiome(double bx, double bz, BiomeChunkCache.Lookup<SquareBiomeChunk> lookup) {
+        final long cell = getRawCell(bx, bz);
+        final int cellX = unpackX(cell);
+        final int cellZ = unpackZ(cell);
+        return getCellChunk(cellX, cellZ, lookup).getBiome(cellX, cellZ);
     }
 
-    private BiomePicker.ActualBiome getRawBiome(double bx, double bz) {
+    private long getRawCell(double bx, double bz) {
         double x = bx * size / sizeXZ;
         double z = bz * size / sizeXZ;
 
@@ -125,19 +180,21 @@ public class SquareBiomeMap implements BiomeMap {
             z += (ix / 2) & 1;
         }
 
-        ChunkPos cpos = new ChunkPos(
-                MHelper.floor(x / SquareBiomeChunk.WIDTH),
-                MHelper.floor(z / SquareBiomeChunk.WIDTH)
-        );
-        SquareBiomeChunk chunk = maps.get(cpos);
-        if (chunk == null) {
-            synchronized (random) {
-                random.setLargeFeatureWithSalt(0, cpos.x, cpos.z, 0);
-                chunk = new SquareBiomeChunk(random, picker);
-            }
-            maps.put(cpos, chunk);
-        }
+        return ((long) MHelper.floor(x) << 32) | (MHelper.floor(z) & 0xFFFFFFFFL);
+    }
 
-        return chunk.getBiome(MHelper.floor(x), MHelper.floor(z));
+    private static int unpackX(long cell) {
+        return (int) (cell >> 32);
+    }
+
+    private static int unpackZ(long cell) {
+        return (int) cell;
+    }
+
+    private SquareBiomeChunk getCellChunk(int cellX, int cellZ, BiomeChunkCache.Lookup<SquareBiomeChunk> lookup) {
+        return lookup.get(
+                Math.floorDiv(cellX, SquareBiomeChunk.WIDTH),
+                Math.floorDiv(cellZ, SquareBiomeChunk.WIDTH)
+        );
     }
 }
@@ -7,6 +7,7 @@ import org.betterx.bclib.api.v2.datafixer.DataFixerAPI;
 import org.betterx.bclib.api.v2.generator.BCLibEndBiomeSource;
 import org.betterx.bclib.api.v2.generator.config.BCLEndBiomeSourceConfig;
 import org.betterx.bclib.api.v2.levelgen.biomes.InternalBiomeAPI;
+import org.betterx.bclib.api.v2.levelgen.structures.TemplateStructure;
 import org.betterx.bclib.api.v2.poi.PoiManager;
 import org.betterx.bclib.registry.PresetsRegistry;
 import org.betterx.worlds.together.tag.v3.TagManager;
@@ -19,7 +20,9 @@ import net.minecraft.core.Registry;
 import net.minecraft.core.RegistryAccess;
 import net.minecraft.resources.ResourceKey;
 import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.level.ServerLevel;
 import net.minecraft.tags.TagLoader;
+import net.minecraft.world.level.biome.Biome;
 import net.minecraft.world.level.chunk.ChunkGenerator;
 import net.minecraft.world.level.dimension.LevelStem;
 import net.minecraft.world.level.levelgen.WorldDimensions;
@@ -50,6 +53,8 @@ public class LevelGenEvents {
         WorldEvents.ADAPT_WORLD_PRESET.on(LevelGenEvents::adaptWorldPreset);
 
         WorldEvents.BEFORE_ADDING_TAGS.on(LevelGenEvents::applyBiomeTags);
+
+        LifeCycleAPI.onLevelLoad(LevelGenEvents::onLevelLoad);
     }
 
 
@@ -135,6 +140,10 @@ public class LevelGenEvents {
         LifeCycleAPI._runBeforeLevelLoad();
     }
 
+    private static void onLevelLoad(ServerLevel level, long seed, Registry<Biome> biomes) {
+        TemplateStructure.preloadTemplates(level.getServer());
+    }
+
     private static void finalizeStem(
             Registry<LevelStem> dimensionRegistry,
             ResourceKey<LevelStem> dimension,
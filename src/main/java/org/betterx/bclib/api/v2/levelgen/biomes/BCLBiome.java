@@ -1,13 +1,10 @@
 package org.betterx.bclib.api.v2.levelgen.biomes;
 
 import org.betterx.bclib.util.WeightedList;
-import org.betterx.worlds.together.world.event.WorldBootstrap;
 
 import com.mojang.datafixers.Products;
 import com.mojang.serialization.Codec;
 import com.mojang.serialization.codecs.RecordCodecBuilder;
-import net.minecraft.core.Registry;
-import net.minecraft.core.RegistryAccess;
 import net.minecraft.core.registries.Registries;
 import net.minecraft.resources.ResourceKey;
 import net.minecraft.resources.ResourceLocation;
@@ -269,7 +266,7 @@ public class BCLBiome implements BiomeData {
      */
     @Nullable
     public BCLBiome getEdge() {
-        return BiomeAPI.getBiome(edge);
+        return BCLBiomeRegistry.getEdge(this);
     }
 
     public boolean hasEdge() {
@@ -284,6 +281,7 @@ public class BCLBiome implements BiomeData {
         } else {
             this.edge = null;
         }
+        BCLBiomeRegistry.invalidateLinks();
         return this;
     }
 
@@ -297,6 +295,7 @@ public class BCLBiome implements BiomeData {
     public BCLBiome addEdge(BCLBiome newEdge) {
         if (this.edge != null) {
             newEdge.biomeParent = this.edge;
+            BCLBiomeRegistry.invalidateLinks();
         } else {
             this._setEdge(newEdge);
         }
@@ -312,26 +311,15 @@ public class BCLBiome implements BiomeData {
      */
     public BCLBiome addSubBiome(BCLBiome biome) {
         biome.biomeParent = this.biomeID;
+        BCLBiomeRegistry.invalidateLinks();
         return this;
     }
 
     private WeightedList<BCLBiome> getSubBiomes() {
-        RegistryAccess acc = WorldBootstrap.getLastRegistryAccess();
         WeightedList<BCLBiome> subbiomes = new WeightedList<>();
         subbiomes.add(this, 1.0f);
-        if (acc == null) return subbiomes;
-
-        Registry<BCLBiome> reg = acc.registry(BCLBiomeRegistry.BCL_BIOMES_REGISTRY).orElse(null);
-        if (reg == null) reg = BCLBiomeRegistry.BUILTIN_BCL_BIOMES;
-
-        for (Map.Entry<ResourceKey<BCLBiome>, BCLBiome> entry : reg.entrySet()) {
-            BCLBiome b = entry.getValue();
-            if (
-                    this.biomeID.equals(entry.getValue().biomeParent)
-                            && !entry.getValue().isEdgeBiome()
-            ) {
-                subbiomes.add(b, b.settings.genChance);
-            }
+        for (BCLBiome b : BCLBiomeRegistry.getSubBiomes(this)) {
+            subbiomes.add(b, b.settings.genChance);
         }
 
         return subbiomes;
@@ -350,7 +338,17 @@ public class BCLBiome implements BiomeData {
      */
     @Nullable
     public BCLBiome getParentBiome() {
-        return BiomeAPI.getBiome(this.biomeParent);
+        return BCLBiomeRegistry.getParent(this);
+    }
+
+    @Nullable
+    ResourceLocation getParentID() {
+        return biomeParent;
+    }
+
+    @Nullable
+    ResourceLocation getEdgeID() {
+        return edge;
     }
 
     public boolean hasParentBiome() {
@@ -477,9 +475,7 @@ public class BCLBiome implements BiomeData {
     private final boolean didLoadConfig = false;
 
     public boolean isEdgeBiome() {
-        final BCLBiome parent = getParentBiome();
-        if (parent == null) return false;
-        return this.biomeID.equals(parent.edge);
+        return BCLBiomeRegistry.isEdge(this);
     }
 
     boolean allowFabricRegistration() {
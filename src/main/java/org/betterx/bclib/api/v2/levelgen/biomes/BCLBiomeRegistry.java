@@ -24,9 +24,8 @@ import net.fabricmc.fabric.api.event.registry.FabricRegistryBuilder;
 import net.fabricmc.fabric.api.event.registry.RegistryAttribute;
 import net.fabricmc.fabric.api.event.registry.RegistryEntryAddedCallback;
 
-import java.util.HashSet;
-import java.util.Optional;
-import java.util.Set;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
@@ -203,6 +202,102 @@ public class BCLBiomeRegistry {
         return result.stream();
     }
 
+    private static final AtomicInteger LINK_VERSION = new AtomicInteger();
+    private static volatile BiomeIndex index;
+
+    /**
+     * Parent, edge and sub-biome links of all known {@link BCLBiome}s. The index is built from the
+     * current BCLBiome registry and {@link #BUILTIN_BCL_BIOMES}, and built again when one of them
+     * gets a new entry or a link between biomes changes. Once the registries are frozen, it is only
+     * built once.
+     */
+    private static class BiomeIndex {
+        private final Registry<BCLBiome> registry;
+        private final boolean hasAccess;
+        private final int registrySize;
+        private final int builtinSize;
+        private final int linkVersion;
+
+        private final Map<ResourceLocation, BCLBiome> byID = new HashMap<>();
+        private final Map<ResourceLocation, List<BCLBiome>> subBiomes = new HashMap<>();
+
+        BiomeIndex(Registry<BCLBiome> registry, boolean hasAccess, int linkVersion) {
+            this.registry = registry;
+            this.hasAccess = hasAccess;
+            this.registrySize = registry == null ? -1 : registry.size();
+            this.builtinSize = BUILTIN_BCL_BIOMES.size();
+            this.linkVersion = linkVersion;
+
+            //biomes from the registry replace builtin biomes with the same id, just like in getBiome
+            BUILTIN_BCL_BIOMES.forEach(b -> byID.put(b.getID(), b));
+            if (registry != null) registry.forEach(b -> byID.put(b.getID(), b));
+
+            //sub-biomes are only searched in one registry, this is the same order getSubBiomes used
+            if (!hasAccess) return;
+            final Registry<BCLBiome> source = registry == null ? BUILTIN_BCL_BIOMES : registry;
+            for (BCLBiome b : source) {
+                final ResourceLocation parent = b.getParentID();
+                if (parent != null && !isEdge(b)) {
+                    subBiomes.computeIfAbsent(parent, k -> new ArrayList<>()).add(b);
+                }
+            }
+        }
+
+        boolean isValidFor(Registry<BCLBiome> registry, boolean hasAccess) {
+            return this.registry == registry
+                    && this.hasAccess == hasAccess
+                    && this.registrySize == (registry == null ? -1 : registry.size())
+                    && this.builtinSize == BUILTIN_BCL_BIOMES.size()
+                    && this.linkVersion == LINK_VERSION.get();
+        }
+
+        BCLBiome get(ResourceLocation id) {
+            return id == null ? null : byID.get(id);
+        }
+
+        boolean isEdge(BCLBiome biome) {
+            final BCLBiome parent = get(biome.getParentID());
+            return parent != null && biome.getID().equals(parent.getEdgeID());
+        }
+    }
+
+    private static BiomeIndex index() {
+        final boolean hasAccess = WorldBootstrap.getLastRegistryAccess() != null;
+        final Registry<BCLBiome> registry = registryOrNull();
+        BiomeIndex current = index;
+        if (current == null || !current.isValidFor(registry, hasAccess)) {
+            current = new BiomeIndex(registry, hasAccess, LINK_VERSION.get());
+            index = current;
+        }
+        return current;
+    }
+
+    /**
+     * Needs to be called whenever the parent or edge of a {@link BCLBiome} changes
+     */
+    static void invalidateLinks() {
+        LINK_VERSION.incrementAndGet();
+    }
+
+    static @Nullable BCLBiome getParent(BCLBiome biome) {
+        return index().get(biome.getParentID());
+    }
+
+    static @Nullable BCLBiome getEdge(BCLBiome biome) {
+        return index().get(biome.getEdgeID());
+    }
+
+    static boolean isEdge(BCLBiome biome) {
+        return index().isEdge(biome);
+    }
+
+    /**
+     * @return All biomes that have the given biome as parent, but are not its edge
+     */
+    static List<BCLBiome> getSubBiomes(BCLBiome biome) {
+        return index().subBiomes.getOrDefault(biome.getID(), List.of());
+    }
+
     private static Registry<BCLBiome> getBclBiomesRegistry(@Nullable RegistryAccess access) {
         if (access != null) {
             return access
@@ -53,6 +53,8 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 public class BiomeAPI {
+    private static final Map<Biome, List<Set<Holder<PlacedFeature>>>> PENDING_FEATURES = new LinkedHashMap<>();
+    private static int featureBatchDepth = 0;
 
     public static final BCLBiome THE_END = InternalBiomeAPI.wrapBiome(
             Biomes.THE_END,
@@ -718,22 +720,92 @@ public class BiomeAPI {
      * @param step               a {@link Decoration} step for the feature.
      * @param additionalFeatures List of {@link ConfiguredFeature} to add.
      */
-    private static void addBiomeFeature(
+    private static synchronized void addBiomeFeature(
             Holder<Biome> biome,
             Decoration step,
             List<Holder<PlacedFeature>> additionalFeatures
     ) {
-        BiomeGenerationSettingsAccessor accessor = (BiomeGenerationSettingsAccessor) biome.value()
-                                                                                          .getGenerationSettings();
+        List<Set<Holder<PlacedFeature>>> steps = PENDING_FEATURES.computeIfAbsent(
+                biome.value(),
+                b -> new ArrayList<>()
+        );
+        while (steps.size() <= step.ordinal()) {
+            steps.add(null);
+        }
+        Set<Holder<PlacedFeature>> pending = steps.get(step.ordinal());
+        if (pending == null) {
+            pending = new LinkedHashSet<>();
+            steps.set(step.ordinal(), pending);
+        }
+        pending.addAll(additionalFeatures);
+
+        if (featureBatchDepth == 0) {
+            applyPendingFeatures();
+        }
+    }
+
+    /**
+     * Starts collecting the features added with {@link #addBiomeFeature(Holder, BCLFeature)}. They are added
+     * to the biomes when the matching {@link #commitFeatureBatch()} is called, so every biome is only
+     * rebuilt once, no matter how many features are added to it. Batches can be nested; only the
+     * outermost commit applies the features.
+     * <p>
+     * While a batch is open, the features of a biome do not yet contain the features that were added
+     * in the batch.
+     */
+    public static synchronized void beginFeatureBatch() {
+        featureBatchDepth++;
+    }
+
+    /**
+     * Ends a batch that was started with {@link #beginFeatureBatch()}.
+     */
+    public static synchronized void commitFeatureBatch() {
+        if (featureBatchDepth <= 0) {
+            throw new IllegalStateException("No feature batch was started");
+        }
+        if (--featureBatchDepth == 0) {
+            applyPendingFeatures();
+        }
+    }
+
+    private static void applyPendingFeatures() {
+        PENDING_FEATURES.forEach(BiomeAPI::applyFeatures);
+        PENDING_FEATURES.clear();
+    }
+
+    private static void applyFeatures(Biome biome, List<Set<Holder<PlacedFeature>>> additions) {
+        BiomeGenerationSettingsAccessor accessor = (BiomeGenerationSettingsAccessor) biome.getGenerationSettings();
         List<HolderSet<PlacedFeature>> allFeatures = CollectionsUtil.getMutable(accessor.bclib_getFeatures());
-        List<Holder<PlacedFeature>> features = getFeaturesListCopy(allFeatures, step);
 
-        for (var feature : additionalFeatures) {
-            if (!features.contains(feature))
-                features.add(feature);
+        boolean changed = false;
+        for (int index = 0; index < additions.size(); index++) {
+            final Set<Holder<PlacedFeature>> additionalFeatures = additions.get(index);
+            if (additionalFeatures == null) continue;
+            while (allFeatures.size() <= index) {
+                allFeatures.add(HolderSet.direct(Lists.newArrayList()));
+            }
+
+            //features that are already in the step keep their place (and duplicates)
+            final HolderSet<PlacedFeature> current = allFeatures.get(index);
+            List<Holder<PlacedFeature>> features = new ArrayList<>(current.size() + additionalFeatures.size());
+            current.forEach(features::add);
+            Set<Holder<PlacedFeature>> present = new HashSet<>(features);
+
+            boolean added = false;
+            for (var feature : additionalFeatures) {
+                if (present.add(feature)) {
+                    features.add(feature);
+                    added = true;
+                }
+            }
+            if (added) {
+                allFeatures.set(index, HolderSet.direct(features));
+                changed = true;
+            }
         }
+        if (!changed) return;
 
-        allFeatures.set(step.ordinal(), HolderSet.direct(features));
         final Supplier<List<ConfiguredFeature<?, ?>>> flowerFeatures = Suppliers.memoize(() -> allFeatures.stream()
                                                                                                           .flatMap(
                                                                                                                   HolderSet::stream)
@@ -842,20 +914,6 @@ public class BiomeAPI {
     }
 
 
-    private static List<Holder<PlacedFeature>> getFeaturesListCopy(
-            List<HolderSet<PlacedFeature>> features,
-            Decoration step
-    ) {
-        return getFeaturesListCopy(features, step.ordinal());
-    }
-
-    private static List<Holder<PlacedFeature>> getFeaturesListCopy(List<HolderSet<PlacedFeature>> features, int index) {
-        while (features.size() <= index) {
-            features.add(HolderSet.direct(Lists.newArrayList()));
-        }
-        return features.get(index).stream().collect(Collectors.toList());
-    }
-
     public static List<BCLBiome> getAllBiomes(BiomeType type) {
         List<BCLBiome> res = new ArrayList<>();
         var access = WorldBootstrap.getLastRegistryAccess();
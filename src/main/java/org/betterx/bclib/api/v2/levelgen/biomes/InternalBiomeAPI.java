@@ -140,6 +140,15 @@ public class InternalBiomeAPI {
      * For internal use only
      */
     public static void _runBiomeTagAdders() {
+        BiomeAPI.beginFeatureBatch();
+        try {
+            runBiomeTagAdders();
+        } finally {
+            BiomeAPI.commitFeatureBatch();
+        }
+    }
+
+    private static void runBiomeTagAdders() {
         for (var mod : TAG_ADDERS.entrySet()) {
             Stream<ResourceLocation> s = null;
             if (mod.getKey() == Level.NETHER)
@@ -164,13 +173,24 @@ public class InternalBiomeAPI {
             BCLib.LOGGER.info("\nApply Modifications for " + dimension.location() + source.toString()
                                                                                           .replace("\n", "\n    "));
 
+        final long start = System.nanoTime();
         final Set<Holder<Biome>> biomes = source.possibleBiomes();
         List<BiConsumer<ResourceLocation, Holder<Biome>>> modifications = MODIFICATIONS.get(dimension);
-        for (Holder<Biome> biomeHolder : biomes) {
-            if (biomeHolder.isBound()) {
-                applyModificationsAndUpdateFeatures(modifications, biomeHolder);
+        //all features are added in one go once every modification ran
+        BiomeAPI.beginFeatureBatch();
+        try {
+            for (Holder<Biome> biomeHolder : biomes) {
+                if (biomeHolder.isBound()) {
+                    applyModificationsAndUpdateFeatures(modifications, biomeHolder);
+                }
             }
+        } finally {
+            BiomeAPI.commitFeatureBatch();
         }
+
+        if (Configs.MAIN_CONFIG.verboseLogging())
+            BCLib.LOGGER.info("Applied Modifications for " + dimension.location() + " to " + biomes.size()
+                    + " biomes in " + (System.nanoTime() - start) / 1_000_000 + "ms");
     }
 
     private static void applyModificationsAndUpdateFeatures(
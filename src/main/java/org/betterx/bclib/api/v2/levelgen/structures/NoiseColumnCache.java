@@ -0,0 +1,78 @@
+package org.betterx.bclib.api.v2.levelgen.structures;
+
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.LevelHeightAccessor;
+import net.minecraft.world.level.NoiseColumn;
+import net.minecraft.world.level.levelgen.structure.Structure;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+
+import java.lang.ref.WeakReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Remembers the {@link NoiseColumn}s that {@link TemplateStructure}s sample while structures are placed
+ * in one chunk, so structures that probe the same positions do not evaluate the noise again. Every
+ * thread has its own cache, which is cleared as soon as the thread places structures in another chunk.
+ */
+public final class NoiseColumnCache {
+    private static final ThreadLocal<NoiseColumnCache> CACHE = ThreadLocal.withInitial(NoiseColumnCache::new);
+    private static final LongAdder SAMPLED = new LongAdder();
+    private static final LongAdder CACHED = new LongAdder();
+    private static final LongAdder SKIPPED = new LongAdder();
+
+    private final Long2ObjectOpenHashMap<NoiseColumn> columns = new Long2ObjectOpenHashMap<>();
+    //the chunk (or level) structures are placed in, not kept alive by the cache
+    private WeakReference<LevelHeightAccessor> heightAccessor = new WeakReference<>(null);
+    private long chunkPos;
+
+    private NoiseColumnCache() {
+    }
+
+    static NoiseColumn get(Structure.GenerationContext ctx, int x, int z) {
+        final NoiseColumnCache cache = CACHE.get();
+        cache.prepare(ctx);
+
+        final long key = ChunkPos.asLong(x, z);
+        NoiseColumn column = cache.columns.get(key);
+        if (column == null) {
+            column = ctx.chunkGenerator().getBaseColumn(x, z, ctx.heightAccessor(), ctx.randomState());
+            cache.columns.put(key, column);
+            SAMPLED.increment();
+        } else {
+            CACHED.increment();
+        }
+        return column;
+    }
+
+    /**
+     * @param count The number of columns a structure did not sample, because it was rejected early
+     */
+    static void skipped(int count) {
+        SKIPPED.add(count);
+    }
+
+    private void prepare(Structure.GenerationContext ctx) {
+        final long pos = ctx.chunkPos().toLong();
+        if (heightAccessor.get() != ctx.heightAccessor() || chunkPos != pos) {
+            columns.clear();
+            heightAccessor = new WeakReference<>(ctx.heightAccessor());
+            chunkPos = pos;
+        }
+    }
+
+    /**
+     * @return The number of noise columns that were evaluated since the game was started
+     */
+    public static long getSampledCount() {
+        return SAMPLED.sum();
+    }
+
+    /**
+     * @return The number of noise column evaluations that were saved by the cache or by rejecting a
+     * structure that does not fit into the height range before it sampled any column
+     */
+    public static long getSavedCount() {
+        return CACHED.sum() + SKIPPED.sum();
+    }
+}
@@ -1,6 +1,7 @@
 package org.betterx.bclib.api.v2.levelgen.structures;
 
 import org.betterx.bclib.BCLib;
+import org.betterx.bclib.config.Configs;
 import org.betterx.bclib.util.BlocksHelper;
 
 import net.minecraft.core.BlockPos;
@@ -19,7 +20,9 @@ import net.minecraft.world.level.levelgen.structure.BoundingBox;
 import net.minecraft.world.level.levelgen.structure.templatesystem.StructurePlaceSettings;
 import net.minecraft.world.level.levelgen.structure.templatesystem.StructureTemplate;
 
-import com.google.common.collect.Maps;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
 
 import java.io.IOException;
 import java.io.InputStream;
@@ -30,7 +33,7 @@ import java.nio.file.*;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
+import java.util.Optional;
 import org.jetbrains.annotations.Nullable;
 
 public class StructureNBT {
@@ -56,10 +59,20 @@ public class StructureNBT {
         return Mirror.values()[random.nextInt(3)];
     }
 
-    private static final Map<ResourceLocation, StructureNBT> STRUCTURE_CACHE = Maps.newHashMap();
+    private static final LoadingCache<ResourceLocation, StructureNBT> STRUCTURE_CACHE = newCache(
+            CacheLoader.from(StructureNBT::new)
+    );
 
     public static StructureNBT create(ResourceLocation location) {
-        return STRUCTURE_CACHE.computeIfAbsent(location, r -> new StructureNBT(r));
+        return STRUCTURE_CACHE.getUnchecked(location);
+    }
+
+    //worldgen threads read templates concurrently, so the caches have to be thread safe
+    private static <V> LoadingCache<ResourceLocation, V> newCache(CacheLoader<ResourceLocation, V> loader) {
+        final int maxSize = Configs.MAIN_CONFIG.structureCacheSize();
+        final CacheBuilder<Object, Object> builder = CacheBuilder.newBuilder();
+        if (maxSize > 0) builder.maximumSize(maxSize);
+        return builder.build(loader);
     }
 
     public boolean generateCentered(ServerLevelAccessor world, BlockPos pos, Rotation rotation, Mirror mirror) {
@@ -106,10 +119,12 @@ public class StructureNBT {
         return pos.offset(-blockpos2.getX() >> 1, 0, -blockpos2.getZ() >> 1);
     }
 
-    private static final Map<ResourceLocation, StructureTemplate> READER_CACHE = Maps.newHashMap();
+    private static final LoadingCache<ResourceLocation, Optional<StructureTemplate>> READER_CACHE = newCache(
+            CacheLoader.from(r -> Optional.ofNullable(_readStructureFromJar(r)))
+    );
 
     private static StructureTemplate readStructureFromJar(ResourceLocation resource) {
-        return READER_CACHE.computeIfAbsent(resource, r -> _readStructureFromJar(r));
+        return READER_CACHE.getUnchecked(resource).orElse(null);
     }
 
     private static String getStructurePath(ResourceLocation resource) {
@@ -57,7 +57,7 @@ public class StructureWorldNBT extends StructureNBT {
         this.chance = chance;
     }
 
-    private static final Map<String, StructureWorldNBT> READER_CACHE = Maps.newHashMap();
+    private static final Map<String, StructureWorldNBT> READER_CACHE = Maps.newConcurrentMap();
 
     public static StructureWorldNBT create(ResourceLocation location, int offsetY, StructurePlacementType type) {
         return create(location, offsetY, type, 1.0f);
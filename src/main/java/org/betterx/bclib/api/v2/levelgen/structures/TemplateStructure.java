@@ -1,11 +1,17 @@
 package org.betterx.bclib.api.v2.levelgen.structures;
 
+import org.betterx.bclib.BCLib;
+import org.betterx.bclib.config.Configs;
+
 import com.mojang.serialization.Codec;
 import com.mojang.serialization.codecs.RecordCodecBuilder;
+import net.minecraft.Util;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Holder;
 import net.minecraft.core.QuartPos;
+import net.minecraft.core.registries.Registries;
 import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.MinecraftServer;
 import net.minecraft.util.ExtraCodecs;
 import net.minecraft.util.RandomSource;
 import net.minecraft.world.level.ChunkPos;
@@ -19,17 +25,60 @@ import net.minecraft.world.level.levelgen.WorldGenerationContext;
 import net.minecraft.world.level.levelgen.structure.BoundingBox;
 import net.minecraft.world.level.levelgen.structure.Structure;
 import net.minecraft.world.level.levelgen.structure.templatesystem.StructureTemplate;
+import net.minecraft.world.level.levelgen.structure.templatesystem.StructureTemplateManager;
 
 import com.google.common.collect.ImmutableList;
 
-import java.util.List;
-import java.util.Optional;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
 
 public abstract class TemplateStructure extends Structure {
+    private static final Set<StructureTemplateManager> PRELOADED = Collections.newSetFromMap(new WeakHashMap<>());
+    //the number of noise columns that are probed for every candidate
+    private static final int PROBE_COUNT = 5;
     protected final List<Config> configs;
 
+    /**
+     * Loads the templates of all {@link TemplateStructure}s of the server on a background thread, so
+     * the first placement of a structure does not have to wait for the template to be read and parsed.
+     * Templates are only loaded once for every {@link StructureTemplateManager}.
+     *
+     * @param server The server that is loading its levels
+     */
+    public static void preloadTemplates(MinecraftServer server) {
+        final StructureTemplateManager manager = server.getStructureManager();
+        synchronized (PRELOADED) {
+            if (!PRELOADED.add(manager)) return;
+        }
+
+        final Set<ResourceLocation> locations = new LinkedHashSet<>();
+        for (Structure structure : server.registryAccess().registryOrThrow(Registries.STRUCTURE)) {
+            if (structure instanceof TemplateStructure templateStructure) {
+                templateStructure.configs.forEach(config -> locations.add(config.location));
+            }
+        }
+        if (locations.isEmpty()) return;
+
+        final long start = System.nanoTime();
+        CompletableFuture.allOf(locations
+                .stream()
+                .map(location -> CompletableFuture.runAsync(() -> {
+                    try {
+                        manager.get(location);
+                    } catch (RuntimeException e) {
+                        BCLib.LOGGER.error("Unable to preload Structure " + location, e);
+                    }
+                }, Util.backgroundExecutor()))
+                .toArray(CompletableFuture[]::new)
+        ).thenRun(() -> {
+            if (Configs.MAIN_CONFIG.verboseLogging())
+                BCLib.LOGGER.info("Preloaded " + locations.size() + " structure templates in "
+                        + (System.nanoTime() - start) / 1_000_000 + "ms");
+        });
+    }
+
     public static <T extends TemplateStructure> Codec<T> simpleTemplateCodec(BiFunction<StructureSettings, List<Config>, T> instancer) {
         return RecordCodecBuilder.create((instance) -> instance
                 .group(
@@ -137,6 +186,11 @@ public abstract class TemplateStructure extends Structure {
                 worldGenerationContext.getGenDepth()
                         - 4
                         - (searchStep > 0 ? (structureTemplate.getSize(Rotation.NONE).getY() + config.offsetY) : 0);
+        //the structure does not fit between sea level and the top of the world
+        if (seaLevel >= maxHeight) {
+            NoiseColumnCache.skipped(PROBE_COUNT);
+            return Optional.empty();
+        }
 
         BlockPos halfSize = new BlockPos(
                 structureTemplate.getSize().getX() / 2,
@@ -161,12 +215,8 @@ public abstract class TemplateStructure extends Structure {
                         new BlockPos(boundingBox.maxX(), 0, boundingBox.maxZ())
                 )
                 .stream()
-                .map(blockPos -> ctx.chunkGenerator().getBaseColumn(
-                        blockPos.getX(),
-                        blockPos.getZ(),
-                        ctx.heightAccessor(),
-                        ctx.randomState()
-                )).toList();
+                .map(blockPos -> NoiseColumnCache.get(ctx, blockPos.getX(), blockPos.getZ()))
+                .toList();
 
         int y = noiseColumns
                 .stream()
@@ -5,6 +5,7 @@ import org.betterx.bclib.mixin.common.SurfaceRulesContextAccessor;
 import org.betterx.bclib.util.MHelper;
 
 import com.mojang.serialization.Codec;
+import net.minecraft.util.RandomSource;
 
 public class NetherNoiseCondition implements NumericProvider {
     public static final Codec<NetherNoiseCondition> CODEC = Codec.BYTE.fieldOf("nether_noise")
@@ -29,18 +30,20 @@ public class NetherNoiseCondition implements NumericProvider {
         final int x = context.getBlockX();
         final int y = context.getBlockY();
         final int z = context.getBlockZ();
-        double value = Conditions.NETHER_VOLUME_NOISE.noiseContext.noise.eval(
-                x * Conditions.NETHER_VOLUME_NOISE.scaleX,
-                y * Conditions.NETHER_VOLUME_NOISE.scaleY,
-                z * Conditions.NETHER_VOLUME_NOISE.scaleZ
+        final VolumeThresholdCondition noise = Conditions.NETHER_VOLUME_NOISE;
+        double value = noise.noiseContext.noise.eval(
+                x * noise.scaleX,
+                y * noise.scaleY,
+                z * noise.scaleZ
         );
 
-        int offset = Conditions.NETHER_VOLUME_NOISE.noiseContext.random.nextInt(20) == 0 ? 3 : 0;
+        final RandomSource random = noise.noiseContext.random(x, y, z);
+        int offset = random.nextInt(20) == 0 ? 3 : 0;
 
-        float cmp = MHelper.randRange(0.4F, 0.5F, Conditions.NETHER_VOLUME_NOISE.noiseContext.random);
+        float cmp = MHelper.randRange(0.4F, 0.5F, random);
         if (value > cmp || value < -cmp) return 2 + offset;
 
-        if (value > Conditions.NETHER_VOLUME_NOISE.range.sample(Conditions.NETHER_VOLUME_NOISE.noiseContext.random))
+        if (value > noise.range.sample(random))
             return 0 + offset;
 
         return 1 + offset;
@@ -0,0 +1,29 @@
+package org.betterx.bclib.api.v2.levelgen.surface.rules;
+
+import net.minecraft.util.Mth;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.level.levelgen.RandomSupport;
+import net.minecraft.world.level.levelgen.SingleThreadedRandomSource;
+
+/**
+ * Random values that only depend on a block position and a salt, so surface rules produce the same
+ * blocks no matter in which order, or on which thread, the positions are evaluated.
+ */
+final class PositionalRandom {
+    private static final ThreadLocal<RandomSource> RANDOM = ThreadLocal.withInitial(
+            () -> new SingleThreadedRandomSource(0)
+    );
+
+    private PositionalRandom() {
+    }
+
+    /**
+     * The returned source belongs to the calling thread and is re-seeded by the next call, so it
+     * must not be kept.
+     */
+    static RandomSource at(long salt, int x, int y, int z) {
+        final RandomSource random = RANDOM.get();
+        random.setSeed(RandomSupport.mixStafford13(salt ^ Mth.getSeed(x, y, z)));
+        return random;
+    }
+}
@@ -9,9 +9,9 @@ import com.mojang.serialization.codecs.RecordCodecBuilder;
 import net.minecraft.core.registries.Registries;
 import net.minecraft.resources.ResourceKey;
 import net.minecraft.util.KeyDispatchDataCodec;
-import net.minecraft.util.RandomSource;
 import net.minecraft.util.valueproviders.FloatProvider;
 import net.minecraft.util.valueproviders.UniformFloat;
+import net.minecraft.world.level.levelgen.PositionalRandomFactory;
 import net.minecraft.world.level.levelgen.SurfaceRules;
 import net.minecraft.world.level.levelgen.synth.NormalNoise;
 
@@ -85,9 +85,8 @@ public class RoughNoiseCondition implements SurfaceRules.ConditionSource {
     public SurfaceRules.Condition apply(final SurfaceRules.Context context2) {
         final SurfaceRulesContextAccessor ctx = SurfaceRulesContextAccessor.class.cast(context2);
         final NormalNoise normalNoise = ctx.getRandomState().getOrCreateNoise(this.noise);
-        final RandomSource roughnessSource = ctx.getRandomState()
-                                                .getOrCreateRandomFactory(Noises.ROUGHNESS_NOISE.location())
-                                                .fromHashOf(Noises.ROUGHNESS_NOISE.location());
+        final PositionalRandomFactory roughnessSource = ctx.getRandomState()
+                                                         .getOrCreateRandomFactory(Noises.ROUGHNESS_NOISE.location());
 
         class NoiseThresholdCondition extends SurfaceRules.LazyCondition {
             NoiseThresholdCondition() {
@@ -106,7 +105,7 @@ public class RoughNoiseCondition implements SurfaceRules.ConditionSource {
                                 ctx.getBlockX(),
                                 ctx.getBlockZ(),
                                 ctx.getBlockZ()
-                        ) + roughness.sample(roughnessSource);
+                        ) + roughness.sample(roughnessSource.at(ctx.getBlockX(), ctx.getBlockY(), ctx.getBlockZ()));
                 return d >= minThreshold && d <= maxThreshold;
             }
         }
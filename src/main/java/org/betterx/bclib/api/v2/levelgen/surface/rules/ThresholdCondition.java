@@ -6,18 +6,16 @@ import org.betterx.bclib.noise.OpenSimplexNoise;
 import com.mojang.serialization.Codec;
 import com.mojang.serialization.codecs.RecordCodecBuilder;
 import net.minecraft.util.KeyDispatchDataCodec;
-import net.minecraft.util.RandomSource;
 import net.minecraft.util.valueproviders.ConstantFloat;
 import net.minecraft.util.valueproviders.FloatProvider;
 import net.minecraft.world.level.levelgen.SurfaceRules;
-import net.minecraft.world.level.levelgen.ThreadSafeLegacyRandomSource;
 
 import com.google.common.collect.Maps;
 
 import java.util.Map;
 
 public class ThresholdCondition extends SurfaceNoiseCondition {
-    private static final Map<Long, Context> NOISES = Maps.newHashMap();
+    private static final Map<Long, Context> NOISES = Maps.newConcurrentMap();
     public static final Codec<ThresholdCondition> CODEC = RecordCodecBuilder.create(instance -> instance
             .group(
                     Codec.LONG.fieldOf("seed").forGetter(p -> p.noiseContext.seed),
@@ -45,16 +43,17 @@ public class ThresholdCondition extends SurfaceNoiseCondition {
 
     @Override
     public boolean test(SurfaceRulesContextAccessor context) {
-        final double x = context.getBlockX() * scaleX;
-        final double z = context.getBlockZ() * scaleZ;
-        if (noiseContext.lastX == x && noiseContext.lastZ == z)
-            return noiseContext.lastValue + range.sample(noiseContext.random) > threshold;
-        double value = noiseContext.noise.eval(x, z);
-
-        noiseContext.lastX = x;
-        noiseContext.lastZ = z;
-        noiseContext.lastValue = value;
-        return value + range.sample(noiseContext.random) > threshold;
+        final int blockX = context.getBlockX();
+        final int blockZ = context.getBlockZ();
+        final double x = blockX * scaleX;
+        final double z = blockZ * scaleZ;
+        final double[] last = noiseContext.last.get();
+        if (last[0] != x || last[1] != z) {
+            last[0] = x;
+            last[1] = z;
+            last[2] = noiseContext.noise.eval(x, z);
+        }
+        return last[2] + range.sample(PositionalRandom.at(noiseContext.seed * 2, blockX, 0, blockZ)) > threshold;
     }
 
     @Override
@@ -64,17 +63,14 @@ public class ThresholdCondition extends SurfaceNoiseCondition {
 
     static class Context {
         public final OpenSimplexNoise noise;
-        public final RandomSource random;
         public final long seed;
 
-        public double lastX = Integer.MIN_VALUE;
-        public double lastZ = Integer.MIN_VALUE;
-        public double lastValue = 0;
+        //x, z and the noise value of the last position, every surface building thread has its own
+        final ThreadLocal<double[]> last = ThreadLocal.withInitial(() -> new double[]{Double.NaN, Double.NaN, 0});
 
         Context(long seed) {
             this.seed = seed;
             this.noise = new OpenSimplexNoise(seed);
-            this.random = new ThreadSafeLegacyRandomSource(seed * 2);
         }
     }
 }
@@ -17,7 +17,7 @@ import com.google.common.collect.Maps;
 import java.util.Map;
 
 public class VolumeThresholdCondition extends VolumeNoiseCondition {
-    private static final Map<Long, VolumeThresholdCondition.Context> NOISES = Maps.newHashMap();
+    private static final Map<Long, VolumeThresholdCondition.Context> NOISES = Maps.newConcurrentMap();
     public static final Codec<VolumeThresholdCondition> CODEC = RecordCodecBuilder.create(instance -> instance
             .group(
                     Codec.LONG.fieldOf("seed").forGetter(p -> p.noiseContext.seed),
@@ -62,19 +62,15 @@ public class VolumeThresholdCondition extends VolumeNoiseCondition {
         final double y = yy * scaleY;
         final double z = zz * scaleZ;
 
-        if (noiseContext.lastX == x
-                && noiseContext.lastY == y
-                && noiseContext.lastZ == z)
-            return noiseContext.lastValue + range.sample(noiseContext.random);
-
-        double value = noiseContext.noise.eval(x, y, z);
-
-        noiseContext.lastX = x;
-        noiseContext.lastZ = z;
-        noiseContext.lastY = y;
-        noiseContext.lastValue = value;
+        final double[] last = noiseContext.last.get();
+        if (last[0] != x || last[1] != y || last[2] != z) {
+            last[0] = x;
+            last[1] = y;
+            last[2] = z;
+            last[3] = noiseContext.noise.eval(x, y, z);
+        }
 
-        return value + range.sample(noiseContext.random);
+        return last[3] + range.sample(noiseContext.random(xx, yy, zz));
     }
 
     @Override
@@ -89,18 +85,30 @@ public class VolumeThresholdCondition extends VolumeNoiseCondition {
 
     public static class Context {
         public final OpenSimplexNoise noise;
+        /**
+         * @deprecated Shared by all threads, use {@link #random(int, int, int)} instead
+         */
+        @Deprecated(forRemoval = true)
         public final RandomSource random;
         public final long seed;
 
-        double lastX = Integer.MIN_VALUE;
-        double lastY = Integer.MIN_VALUE;
-        double lastZ = Integer.MIN_VALUE;
-        double lastValue = 0;
+        //x, y, z and the noise value of the last position, every surface building thread has its own
+        final ThreadLocal<double[]> last = ThreadLocal.withInitial(() -> new double[]{
+                Double.NaN, Double.NaN, Double.NaN, 0
+        });
 
         Context(long seed) {
             this.seed = seed;
             this.noise = new OpenSimplexNoise(seed);
             this.random = new ThreadSafeLegacyRandomSource(seed * 3 + 1);
         }
+
+        /**
+         * @return A random source that only depends on the seed of the noise and the given position. It
+         * belongs to the calling thread and must not be kept.
+         */
+        public RandomSource random(int x, int y, int z) {
+            return PositionalRandom.at(seed * 3 + 1, x, y, z);
+        }
     }
 }
@@ -7,4 +7,13 @@ public interface AtomicProgressListener {
     void resetAtomic();
     void stop();
     void progressStage(Component component);
+
+    /**
+     * Called periodically by long running tasks that process a lot of data.
+     *
+     * @param itemsPerSecond Average number of processed items (for example chunks) per second
+     * @param bytesPerSecond Average number of processed bytes per second
+     */
+    default void reportThroughput(double itemsPerSecond, double bytesPerSecond) {
+    }
 }
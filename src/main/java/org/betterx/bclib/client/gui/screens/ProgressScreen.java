@@ -13,6 +13,7 @@ import net.minecraft.client.gui.GuiGraphics;
 import net.minecraft.client.gui.screens.Screen;
 import net.minecraft.client.renderer.GameRenderer;
 import net.minecraft.network.chat.Component;
+import net.minecraft.network.chat.MutableComponent;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.util.ProgressListener;
 
@@ -143,6 +144,7 @@ public class ProgressScreen extends LayoutScreen implements ProgressListener, At
     private ProgressLogoRender progressImage;
     private int currentProgress = 0;
     private AtomicInteger atomicCounter;
+    private Component throughput;
 
     @Override
     public void incAtomic(int maxProgress) {
@@ -166,7 +168,21 @@ public class ProgressScreen extends LayoutScreen implements ProgressListener, At
     }
 
     private Component getProgressComponent(int pg) {
-        return Component.translatable("title.bclib.progress").append(": " + pg + "%");
+        final MutableComponent component = Component.translatable("title.bclib.progress").append(": " + pg + "%");
+        if (throughput != null) {
+            component.append(" (").append(throughput).append(")");
+        }
+        return component;
+    }
+
+    @Override
+    public void reportThroughput(double itemsPerSecond, double bytesPerSecond) {
+        throughput = Component.translatable(
+                "message.bclib.progress.throughput",
+                String.format("%.0f", itemsPerSecond),
+                String.format("%.1f", bytesPerSecond / (1024 * 1024))
+        );
+        if (this.progress != null) this.progress.setText(getProgressComponent());
     }
 
 
@@ -1,5 +1,7 @@
 package org.betterx.bclib.client.models;
 
+import org.betterx.bclib.BCLib;
+import org.betterx.bclib.config.Configs;
 import org.betterx.bclib.interfaces.BlockModelProvider;
 import org.betterx.bclib.interfaces.ItemModelProvider;
 import org.betterx.bclib.models.RecordItemModelProvider;
@@ -32,6 +34,20 @@ public class CustomModelBakery {
     }
 
     public void loadCustomModels(ResourceManager resourceManager) {
+        final long start = System.nanoTime();
+        ModelsHelper.beginModelSharing();
+        try {
+            loadModels(resourceManager);
+        } finally {
+            final long[] counts = ModelsHelper.endModelSharing();
+            if (Configs.MAIN_CONFIG.verboseLogging()) {
+                BCLib.LOGGER.info("Generated " + counts[0] + " models from " + counts[1] + " distinct json in "
+                        + (System.nanoTime() - start) / 1_000_000 + "ms");
+            }
+        }
+    }
+
+    private void loadModels(ResourceManager resourceManager) {
         BuiltInRegistries.BLOCK.stream()
                                .parallel()
                                .filter(block -> block instanceof BlockModelProvider)
@@ -18,15 +18,54 @@ import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
 
 import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Function;
 
 @Environment(EnvType.CLIENT)
 public class ModelsHelper {
+    //models parsed during CustomModelBakery#loadCustomModels by their json, null when no models are loaded
+    private static volatile Map<String, BlockModel> parsedModels;
+    private static final LongAdder REQUESTED_MODELS = new LongAdder();
+
     public static BlockModel fromPattern(Optional<String> pattern) {
-        return pattern.map(BlockModel::fromString).orElse(null);
+        return pattern.map(ModelsHelper::fromJson).orElse(null);
+    }
+
+    /**
+     * Many block states generate the same json. While custom models are loaded, every distinct json is
+     * only parsed once and all states share the resulting model.
+     */
+    private static BlockModel fromJson(String json) {
+        final Map<String, BlockModel> parsed = parsedModels;
+        if (parsed == null) return BlockModel.fromString(json);
+
+        REQUESTED_MODELS.increment();
+        BlockModel model = parsed.get(json);
+        if (model == null) {
+            model = BlockModel.fromString(json);
+            final BlockModel present = parsed.putIfAbsent(json, model);
+            if (present != null) model = present;
+        }
+        return model;
+    }
+
+    static void beginModelSharing() {
+        REQUESTED_MODELS.reset();
+        parsedModels = Maps.newConcurrentMap();
+    }
+
+    /**
+     * @return The number of requested and the number of parsed models since {@link #beginModelSharing()}
+     */
+    static long[] endModelSharing() {
+        final Map<String, BlockModel> parsed = parsedModels;
+        parsedModels = null;
+        return new long[]{REQUESTED_MODELS.sum(), parsed == null ? 0 : parsed.size()};
     }
 
     public static BlockModel createItemModel(ResourceLocation resourceLocation) {
@@ -1,9 +1,11 @@
 package org.betterx.bclib.commands;
 
 import org.betterx.bclib.BCLib;
+import org.betterx.bclib.api.v2.levelgen.structures.NoiseColumnCache;
 import org.betterx.bclib.client.gui.screens.UpdatesScreen;
 import org.betterx.bclib.config.Configs;
 import org.betterx.bclib.networking.VersionChecker;
+import org.betterx.bclib.util.LightStats;
 
 import com.mojang.brigadier.Command;
 import com.mojang.brigadier.builder.LiteralArgumentBuilder;
@@ -31,6 +33,12 @@ public class PrintInfo {
                               ).then(Commands.literal("updates")
                                              .requires(source -> source.hasPermission(Commands.LEVEL_OWNERS))
                                              .executes(ctx -> PrintInfo.printUpdates(ctx, true))
+                        ).then(Commands.literal("light")
+                                       .requires(source -> source.hasPermission(Commands.LEVEL_OWNERS))
+                                       .executes(PrintInfo::printLight)
+                        ).then(Commands.literal("structures")
+                                       .requires(source -> source.hasPermission(Commands.LEVEL_OWNERS))
+                                       .executes(PrintInfo::printStructures)
                         )
                 );
     }
@@ -62,6 +70,28 @@ public class PrintInfo {
         return Command.SINGLE_SUCCESS;
     }
 
+    static int printLight(CommandContext<CommandSourceStack> ctx) {
+        MutableComponent result = Component.literal("Light lookups in missing sections: ")
+                                           .setStyle(Style.EMPTY.withBold(false).withColor(ChatFormatting.WHITE))
+                                           .append(Component.literal("" + LightStats.getMissingLayerCount())
+                                                            .setStyle(Style.EMPTY.withColor(ChatFormatting.YELLOW)));
+        ctx.getSource().sendSuccess(() -> result, false);
+        return Command.SINGLE_SUCCESS;
+    }
+
+    static int printStructures(CommandContext<CommandSourceStack> ctx) {
+        MutableComponent result = Component.literal("Structure noise columns sampled: ")
+                                           .setStyle(Style.EMPTY.withBold(false).withColor(ChatFormatting.WHITE))
+                                           .append(Component.literal("" + NoiseColumnCache.getSampledCount())
+                                                            .setStyle(Style.EMPTY.withColor(ChatFormatting.YELLOW)))
+                                           .append(Component.literal(", saved: ")
+                                                            .setStyle(Style.EMPTY.withColor(ChatFormatting.WHITE)))
+                                           .append(Component.literal("" + NoiseColumnCache.getSavedCount())
+                                                            .setStyle(Style.EMPTY.withColor(ChatFormatting.GREEN)));
+        ctx.getSource().sendSuccess(() -> result, false);
+        return Command.SINGLE_SUCCESS;
+    }
+
     static int printUpdates(CommandContext<CommandSourceStack> ctx, boolean withUI) {
         boolean hasOne = false;
         MutableComponent header = Component.literal("Mod Updates:")
@@ -17,6 +17,7 @@ public class Configs {
 
     public static final String MAIN_PATCH_CATEGORY = "patches";
     public static final String MAIN_INFO_CATEGORY = "infos";
+    public static final String MAIN_CACHE_CATEGORY = "caches";
 
     public static void save() {
         MAIN_CONFIG.saveChanges();
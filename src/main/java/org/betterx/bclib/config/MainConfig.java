@@ -27,6 +27,13 @@ public class MainConfig extends NamedPathConfig {
             Configs.MAIN_INFO_CATEGORY
     );
 
+    @ConfigUI(hide = true)
+    public static final ConfigToken<Integer> STRUCTURE_CACHE_SIZE = ConfigToken.Int(
+            0,
+            "structureCacheSize",
+            Configs.MAIN_CACHE_CATEGORY
+    );
+
 
     public MainConfig() {
         super(BCLib.MOD_ID, "main", true, true);
@@ -43,4 +50,11 @@ public class MainConfig extends NamedPathConfig {
     public boolean verboseLogging() {
         return get(VERBOSE_LOGGING);
     }
+
+    /**
+     * @return The maximum number of structure templates that are kept in memory, 0 if there is no limit
+     */
+    public int structureCacheSize() {
+        return get(STRUCTURE_CACHE_SIZE);
+    }
 }
@@ -42,6 +42,13 @@ public class ServerConfig extends NamedPathConfig {
             (config) -> config.get(
                     ENABLED)
     );
+    public static final DependendConfigToken<Boolean> COMPRESS_TRANSFERS = DependendConfigToken.Boolean(
+            true,
+            "compressTransfers",
+            AutoSync.SYNC_CATEGORY,
+            (config) -> config.get(
+                    ENABLED)
+    );
 
 
     public static final ConfigToken<List<String>> ADDITIONAL_MODS = ConfigToken.StringArray(
@@ -89,6 +96,10 @@ public class ServerConfig extends NamedPathConfig {
         return get(SEND_ALL_MOD_INFO) /*&& isAllowingAutoSync()*/;
     }
 
+    public boolean isCompressingTransfers() {
+        return get(COMPRESS_TRANSFERS);
+    }
+
     public boolean forceBetterXPreset() {
         return get(FORCE_BETTERX_PRESET);
     }
@@ -6,4 +6,16 @@ public interface BiomeChunk {
     void setBiome(int x, int z, BiomePicker.ActualBiome biome);
     BiomePicker.ActualBiome getBiome(int x, int z);
     int getSide();
+
+    /**
+     * Returns a lower bound of the distance (in cells) from the given cell to the next cell with a
+     * different biome. Cells outside this chunk are treated as different.
+     *
+     * @param x local x-coordinate of the cell
+     * @param z local z-coordinate of the cell
+     * @return The distance, 0 if unknown
+     */
+    default int getEdgeDistance(int x, int z) {
+        return 0;
+    }
 }
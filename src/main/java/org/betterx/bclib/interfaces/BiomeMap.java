@@ -1,10 +1,54 @@
 package org.betterx.bclib.interfaces;
 
 import org.betterx.bclib.api.v2.generator.BiomePicker;
+import org.betterx.bclib.api.v2.generator.map.BiomeChunkCache;
 
 public interface BiomeMap {
-    void setChunkProcessor(TriConsumer<Integer, Integer, Integer> processor);
+    /**
+     * @param processor Called with the position and the instance of every chunk the map creates, before
+     *                  the chunk is visible to other threads
+     */
+    void setChunkProcessor(TriConsumer<Integer, Integer, BiomeChunk> processor);
     BiomeChunk getChunk(int cx, int cz, boolean update);
     BiomePicker.ActualBiome getBiome(double x, double y, double z);
     void clearCache();
+
+    /**
+     * Fills {@code out} with the biomes of a {@code width} x {@code depth} area of quarts (4x4 block columns),
+     * starting at the given quart position. The result is stored in x-major order, the biome of the
+     * quart at {@code (quartX + x, quartZ + z)} is written to {@code out[x * depth + z]}.
+     * <p>
+     * Implementations can override this to share work between neighbouring samples.
+     *
+     * @param quartX The x-coordinate of the first quart
+     * @param quartY The y-coordinate of all sampled quarts
+     * @param quartZ The z-coordinate of the first quart
+     * @param width  The number of quarts along the x-axis
+     * @param depth  The number of quarts along the z-axis
+     * @param out    The target array, must hold at least {@code width * depth} entries
+     */
+    default void fillBiomes(int quartX, int quartY, int quartZ, int width, int depth, BiomePicker.ActualBiome[] out) {
+        final double y = quartY << 2;
+        for (int x = 0; x < width; x++) {
+            final double bx = (quartX + x) << 2;
+            final int offset = x * depth;
+            for (int z = 0; z < depth; z++) {
+                out[offset + z] = getBiome(bx, y, (quartZ + z) << 2);
+            }
+        }
+    }
+
+    /**
+     * @return false, if {@link #getBiome(double, double, double)} returns the same biome for every y-coordinate
+     */
+    default boolean isHeightDependent() {
+        return true;
+    }
+
+    /**
+     * @return hit, miss and eviction counters of the chunk cache used by this map
+     */
+    default BiomeChunkCache.Stats getCacheStats() {
+        return BiomeChunkCache.Stats.EMPTY;
+    }
 }
@@ -44,7 +44,8 @@ public interface BlockModelProvider extends ItemModelProvider {
         if (!modelCache.containsKey(modelId)) {
             BlockModel model = getBlockModel(stateId, blockState);
             if (model != null) {
-                model.name = modelId.toString();
+                //generated models with the same json are shared, they keep the first name
+                if (model.name.isEmpty()) model.name = modelId.toString();
                 modelCache.put(modelId, model);
             } else {
                 BCLib.LOGGER.warning("Error loading model: {}", modelId);
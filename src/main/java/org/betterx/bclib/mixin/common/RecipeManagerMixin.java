@@ -1,6 +1,7 @@
 package org.betterx.bclib.mixin.common;
 
 import org.betterx.bclib.recipes.BCLRecipeManager;
+import org.betterx.bclib.recipes.RecipeIndex;
 
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.packs.resources.ResourceManager;
@@ -14,6 +15,7 @@ import net.minecraft.world.level.Level;
 import com.google.gson.JsonElement;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.Unique;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
@@ -21,9 +23,13 @@ import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Mixin(RecipeManager.class)
 public abstract class RecipeManagerMixin {
+    @Unique
+    private final Map<RecipeType<?>, RecipeIndex<?, ?>> bcl_recipeIndex = new ConcurrentHashMap<>();
+
     @Shadow
     protected abstract <C extends Container, T extends Recipe<C>> Map<ResourceLocation, T> byType(RecipeType<T> recipeType);
 
@@ -35,33 +41,24 @@ public abstract class RecipeManagerMixin {
             CallbackInfo info
     ) {
         BCLRecipeManager.removeDisabledRecipes(resourceManager, map);
+        bcl_recipeIndex.clear();
     }
 
     @Inject(method = "getRecipeFor(Lnet/minecraft/world/item/crafting/RecipeType;Lnet/minecraft/world/Container;Lnet/minecraft/world/level/Level;)Ljava/util/Optional;", at = @At("HEAD"), cancellable = true)
+    @SuppressWarnings("unchecked")
     <C extends Container, T extends Recipe<C>> void bcl_sort(
             RecipeType<T> recipeType,
             C container,
             Level level,
             CallbackInfoReturnable<Optional<T>> cir
     ) {
-        var inter = this.byType(recipeType);
-        var all = inter.values().stream().filter((recipe) -> recipe.matches(container, level)).sorted((a, b) -> {
-            if (a.getId().getNamespace().equals(b.getId().getNamespace())) {
-                return a.getId().getPath().compareTo(b.getId().getPath());
-            }
-            if (a.getId().getNamespace().equals("minecraft") && !b.getId().getNamespace().equals("minecraft")) {
-                return 1;
-            } else if (!a.getId().getNamespace().equals("minecraft") && b.getId().getNamespace().equals("minecraft")) {
-                return -1;
-            } else {
-                return a.getId().getNamespace().compareTo(b.getId().getNamespace());
-            }
-        }).toList();
-
-        if (all.size() > 1) {
-            cir.setReturnValue(Optional.of(all.get(0)));
+        final Map<ResourceLocation, T> recipes = this.byType(recipeType);
+        RecipeIndex<?, ?> index = bcl_recipeIndex.get(recipeType);
+        if (index == null || !index.isFor(recipes)) {
+            //built on first use, the tags of the ingredients are not bound while apply runs
+            index = RecipeIndex.build(recipes);
+            bcl_recipeIndex.put(recipeType, index);
         }
-
+        cir.setReturnValue(((RecipeIndex<C, T>) index).find(container, level));
     }
-
-}
\ No newline at end of file
+}
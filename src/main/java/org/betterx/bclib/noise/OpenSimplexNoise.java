@@ -2160,6 +2160,93 @@ public class OpenSimplexNoise {
         return value / NORM_CONSTANT_4D;
     }
 
+    /**
+     * Evaluates the 2D noise on a regular grid. The results are identical to calling
+     * {@link #eval(double, double)} for every position.
+     *
+     * @param x0     The x-coordinate of the first sample
+     * @param y0     The y-coordinate of the first sample
+     * @param step   The distance between two samples
+     * @param width  Number of samples along x
+     * @param height Number of samples along y
+     * @param out    Receives the values in x-major order ({@code out[x * height + y]})
+     */
+    public void evalGrid2D(double x0, double y0, double step, int width, int height, double[] out) {
+        for (int i = 0; i < width; i++) {
+            final double x = x0 + i * step;
+            final int row = i * height;
+            for (int j = 0; j < height; j++) {
+                out[row + j] = eval(x, y0 + j * step);
+            }
+        }
+    }
+
+    /**
+     * Same as {@link #evalGrid2D(double, double, double, int, int, double[])}, but stores the values as floats.
+     */
+    public void evalGrid2D(double x0, double y0, double step, int width, int height, float[] out) {
+        for (int i = 0; i < width; i++) {
+            final double x = x0 + i * step;
+            final int row = i * height;
+            for (int j = 0; j < height; j++) {
+                out[row + j] = (float) eval(x, y0 + j * step);
+            }
+        }
+    }
+
+    /**
+     * Evaluates the 3D noise on a regular grid. The results are identical to calling
+     * {@link #eval(double, double, double)} for every position.
+     *
+     * @param out Receives the values in x-major order ({@code out[(x * height + y) * depth + z]})
+     */
+    public void evalGrid3D(
+            double x0,
+            double y0,
+            double z0,
+            double step,
+            int width,
+            int height,
+            int depth,
+            double[] out
+    ) {
+        for (int i = 0; i < width; i++) {
+            final double x = x0 + i * step;
+            for (int j = 0; j < height; j++) {
+                final double y = y0 + j * step;
+                final int row = (i * height + j) * depth;
+                for (int k = 0; k < depth; k++) {
+                    out[row + k] = eval(x, y, z0 + k * step);
+                }
+            }
+        }
+    }
+
+    /**
+     * Evaluates the 2D noise for a list of positions.
+     *
+     * @param x     The x-coordinates
+     * @param y     The y-coordinates
+     * @param out   Receives the value of every position
+     * @param count Number of positions
+     */
+    public void eval(double[] x, double[] y, double[] out, int count) {
+        for (int i = 0; i < count; i++) {
+            out[i] = eval(x[i], y[i]);
+        }
+    }
+
+    /**
+     * Evaluates the 3D noise for a list of positions.
+     *
+     * @see #eval(double[], double[], double[], int)
+     */
+    public void eval(double[] x, double[] y, double[] z, double[] out, int count) {
+        for (int i = 0; i < count; i++) {
+            out[i] = eval(x[i], y[i], z[i]);
+        }
+    }
+
     private double extrapolate(int xsb, int ysb, double dx, double dy) {
         int index = perm[(perm[xsb & 0xFF] + ysb) & 0xFF] & 0x0E;
         return gradients2D[index] * dx + gradients2D[index + 1] * dy;
@@ -6,8 +6,20 @@ import net.minecraft.core.BlockPos;
 
 import java.util.Random;
 
+/**
+ * Cellular (worley) noise with one feature point per unit cell.
+ * <p>
+ * The feature points are derived from a stateless hash of the cell coordinates, so an instance can be
+ * shared by any number of threads. The jitter reproduces the first three {@link Random#nextFloat()}
+ * values of a {@link Random} seeded with the cell hash, which keeps the generated values identical to
+ * older versions that used a shared {@link Random}.
+ */
 public class VoronoiNoise {
-    private static final Random RANDOM = new Random();
+    private static final long MULTIPLIER = 0x5DEECE66DL;
+    private static final long ADDEND = 0xBL;
+    private static final long MASK = (1L << 48) - 1;
+    private static final float FLOAT_UNIT = 1.0F / (1 << 24);
+
     final int seed;
 
     public VoronoiNoise() {
@@ -24,6 +36,21 @@ public class VoronoiNoise {
         return h ^ (h >> 16);
     }
 
+    //same as new Random(seed)
+    private static long initialState(int seed) {
+        return (seed ^ MULTIPLIER) & MASK;
+    }
+
+    //advances the state like Random.next(int)
+    private static long nextState(long state) {
+        return (state * MULTIPLIER + ADDEND) & MASK;
+    }
+
+    //same as Random.nextFloat() for the already advanced state
+    private static float toFloat(long state) {
+        return (int) (state >>> 24) * FLOAT_UNIT;
+    }
+
     public double sample(double x, double y, double z) {
         int ix = MHelper.floor(x);
         int iy = MHelper.floor(y);
@@ -38,10 +65,12 @@ public class VoronoiNoise {
         for (int pox = -1; pox < 2; pox++) {
             for (int poy = -1; poy < 2; poy++) {
                 for (int poz = -1; poz < 2; poz++) {
-                    RANDOM.setSeed(getSeed(pox + ix, poy + iy, poz + iz));
-                    float pointX = pox + RANDOM.nextFloat();
-                    float pointY = poy + RANDOM.nextFloat();
-                    float pointZ = poz + RANDOM.nextFloat();
+                    long state = nextState(initialState(getSeed(pox + ix, poy + iy, poz + iz)));
+                    float pointX = pox + toFloat(state);
+                    state = nextState(state);
+                    float pointY = poy + toFloat(state);
+                    state = nextState(state);
+                    float pointZ = poz + toFloat(state);
                     float d2 = MHelper.lengthSqr(pointX - px, pointY - py, pointZ - pz);
                     if (d2 < d) {
                         d = d2;
@@ -53,6 +82,80 @@ public class VoronoiNoise {
         return Math.sqrt(d);
     }
 
+    /**
+     * Computes the distance to the closest (F1) and second closest (F2) feature point in one pass.
+     * {@code F2 - F1} is zero on the border between two cells, so borders can be found without sampling
+     * the noise twice.
+     *
+     * @param out Receives F1 at index 0 and F2 at index 1
+     */
+    public void sampleF1F2(double x, double y, double z, double[] out) {
+        int ix = MHelper.floor(x);
+        int iy = MHelper.floor(y);
+        int iz = MHelper.floor(z);
+
+        float px = (float) (x - ix);
+        float py = (float) (y - iy);
+        float pz = (float) (z - iz);
+
+        float d1 = 10;
+        float d2 = 10;
+
+        for (int pox = -1; pox < 2; pox++) {
+            for (int poy = -1; poy < 2; poy++) {
+                for (int poz = -1; poz < 2; poz++) {
+                    long state = nextState(initialState(getSeed(pox + ix, poy + iy, poz + iz)));
+                    float pointX = pox + toFloat(state);
+                    state = nextState(state);
+                    float pointY = poy + toFloat(state);
+                    state = nextState(state);
+                    float pointZ = poz + toFloat(state);
+                    float d = MHelper.lengthSqr(pointX - px, pointY - py, pointZ - pz);
+                    if (d < d1) {
+                        d2 = d1;
+                        d1 = d;
+                    } else if (d < d2) {
+                        d2 = d;
+                    }
+                }
+            }
+        }
+
+        out[0] = Math.sqrt(d1);
+        out[1] = Math.sqrt(d2);
+    }
+
+    /**
+     * Samples the noise on a regular grid. Every value is identical to {@link #sample(double, double, double)}
+     * for the same position.
+     *
+     * @param out Receives the values in x-major order ({@code out[(x * height + y) * depth + z]})
+     */
+    public void sampleGrid(
+            double x0,
+            double y0,
+            double z0,
+            double step,
+            int width,
+            int height,
+            int depth,
+            double[] out
+    ) {
+        for (int i = 0; i < width; i++) {
+            final double x = x0 + i * step;
+            for (int j = 0; j < height; j++) {
+                final double y = y0 + j * step;
+                final int row = (i * height + j) * depth;
+                for (int k = 0; k < depth; k++) {
+                    out[row + k] = sample(x, y, z0 + k * step);
+                }
+            }
+        }
+    }
+
+    /**
+     * @return A new random that is seeded with the cell of the closest feature point
+     */
     public Random getRandom(double x, double y, double z) {
         int ix = MHelper.floor(x);
         int iy = MHelper.floor(y);
@@ -71,10 +174,12 @@ public class VoronoiNoise {
         for (int pox = -1; pox < 2; pox++) {
             for (int poy = -1; poy < 2; poy++) {
                 for (int poz = -1; poz < 2; poz++) {
-                    RANDOM.setSeed(getSeed(pox + ix, poy + iy, poz + iz));
-                    float pointX = pox + RANDOM.nextFloat();
-                    float pointY = poy + RANDOM.nextFloat();
-                    float pointZ = poz + RANDOM.nextFloat();
+                    long state = nextState(initialState(getSeed(pox + ix, poy + iy, poz + iz)));
+                    float pointX = pox + toFloat(state);
+                    state = nextState(state);
+                    float pointY = poy + toFloat(state);
+                    state = nextState(state);
+                    float pointZ = poz + toFloat(state);
                     float d2 = MHelper.lengthSqr(pointX - px, pointY - py, pointZ - pz);
                     if (d2 < d) {
                         d = d2;
@@ -90,10 +195,7 @@ public class VoronoiNoise {
         posY += iy;
         posZ += iz;
 
-        int seed = MHelper.getSeed(posY, posX, posZ);
-        RANDOM.setSeed(seed);
-
-        return RANDOM;
+        return new Random(MHelper.getSeed(posY, posX, posZ));
     }
 
     public BlockPos[] getPos(double x, double y, double z, double scale) {
@@ -116,10 +218,12 @@ public class VoronoiNoise {
         for (int pox = -1; pox < 2; pox++) {
             for (int poy = -1; poy < 2; poy++) {
                 for (int poz = -1; poz < 2; poz++) {
-                    RANDOM.setSeed(getSeed(pox + ix, poy + iy, poz + iz));
-                    float pointX = pox + RANDOM.nextFloat();
-                    float pointY = poy + RANDOM.nextFloat();
-                    float pointZ = poz + RANDOM.nextFloat();
+                    long state = nextState(initialState(getSeed(pox + ix, poy + iy, poz + iz)));
+                    float pointX = pox + toFloat(state);
+                    state = nextState(state);
+                    float pointY = poy + toFloat(state);
+                    state = nextState(state);
+                    float pointZ = poz + toFloat(state);
                     float d2 = MHelper.lengthSqr(pointX - px, pointY - py, pointZ - pz);
                     if (d2 < d) {
                         d = d2;
@@ -52,6 +52,12 @@ public class BCLRecipeManager {
 
     private final static HashSet<ResourceLocation> disabledRecipes = new HashSet<>();
 
+    @ApiStatus.Internal
+    public static void init() {
+        //parsed with the other datapack configs, removeDisabledRecipes reads it during the same reload
+        DatapackConfigs.instance().index(BCLib.MOD_ID, "recipes.json");
+    }
+
     private static void clearRecipeConfig() {
         disabledRecipes.clear();
     }
@@ -0,0 +1,153 @@
+package org.betterx.bclib.recipes;
+
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.Container;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.crafting.*;
+import net.minecraft.world.level.Level;
+
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+
+import java.util.*;
+
+/**
+ * Lookup structure for all recipes of one {@link RecipeType}.
+ * <p>
+ * The recipes are ranked once in {@link #PRIORITY} order and bucketed by the items of their first
+ * ingredient, so a lookup only has to test the recipes that can use one of the items in the container
+ * and can stop at the first match of every bucket. Recipes that can not be bucketed safely (custom
+ * recipe classes or ingredients) are always tested.
+ */
+public class RecipeIndex<C extends Container, T extends Recipe<C>> {
+    /**
+     * The order in which recipes of the same type are preferred: recipes from mods before recipes
+     * from minecraft, otherwise by namespace and path.
+     */
+    public static final Comparator<Recipe<?>> PRIORITY = (a, b) -> compareIds(a.getId(), b.getId());
+
+    //recipe classes whose matches() is known to require the first ingredient to match a container slot
+    private static final Set<Class<?>> INDEXED_CLASSES = Set.of(
+            ShapedRecipe.class,
+            ShapelessRecipe.class,
+            SmeltingRecipe.class,
+            BlastingRecipe.class,
+            SmokingRecipe.class,
+            CampfireCookingRecipe.class,
+            StonecutterRecipe.class
+    );
+
+    private final Map<ResourceLocation, T> source;
+    private final List<Entry<T>> unindexed = new ArrayList<>();
+    private final Reference2ObjectOpenHashMap<Item, List<Entry<T>>> byItem = new Reference2ObjectOpenHashMap<>();
+
+    private RecipeIndex(Map<ResourceLocation, T> source) {
+        this.source = source;
+        List<T> sorted = new ArrayList<>(source.values());
+        sorted.sort(PRIORITY);
+
+        for (int rank = 0; rank < sorted.size(); rank++) {
+            final T recipe = sorted.get(rank);
+            final Entry<T> entry = new Entry<>(rank, recipe);
+            final ItemStack[] items = getKeyItems(recipe);
+            if (items == null) {
+                unindexed.add(entry);
+                continue;
+            }
+
+            //ingredients may list the same item more than once
+            Set<Item> added = new ReferenceOpenHashSet<>(items.length);
+            for (ItemStack stack : items) {
+                if (added.add(stack.getItem())) {
+                    byItem.computeIfAbsent(stack.getItem(), k -> new ArrayList<>()).add(entry);
+                }
+            }
+        }
+    }
+
+    /**
+     * Builds the index for the given recipes. The items of tag ingredients are resolved here, so this
+     * must not be called before the tags were bound.
+     *
+     * @param source The recipes of one type, as stored in the {@link RecipeManager}
+     * @return The new index
+     */
+    public static <C extends Container, T extends Recipe<C>> RecipeIndex<C, T> build(Map<ResourceLocation, T> source) {
+        return new RecipeIndex<>(source);
+    }
+
+    /**
+     * @return {@code true} if this index was built for the given recipe map
+     */
+    public boolean isFor(Map<ResourceLocation, ?> recipes) {
+        return source == recipes;
+    }
+
+    /**
+     * Finds the matching recipe with the highest priority.
+     *
+     * @param container The input container
+     * @param level     The level that is passed to {@link Recipe#matches(Container, Level)}
+     * @return The recipe with the highest priority that matches the container
+     */
+    public Optional<T> find(C container, Level level) {
+        Entry<T> best = null;
+        for (Entry<T> entry : unindexed) {
+            if (entry.recipe.matches(container, level)) {
+                best = entry;
+                break;
+            }
+        }
+
+        final int size = container.getContainerSize();
+        Set<Item> visited = null;
+        for (int i = 0; i < size; i++) {
+            final ItemStack stack = container.getItem(i);
+            if (stack.isEmpty()) continue;
+            final List<Entry<T>> bucket = byItem.get(stack.getItem());
+            if (bucket == null) continue;
+
+            if (visited == null) visited = new ReferenceOpenHashSet<>(size);
+            if (!visited.add(stack.getItem())) continue;
+
+            for (Entry<T> entry : bucket) {
+                if (best != null && entry.rank >= best.rank) break;
+                if (entry.recipe.matches(container, level)) {
+                    best = entry;
+                    break;
+                }
+            }
+        }
+
+        return best == null ? Optional.empty() : Optional.of(best.recipe);
+    }
+
+    private static ItemStack[] getKeyItems(Recipe<?> recipe) {
+        if (!INDEXED_CLASSES.contains(recipe.getClass())) return null;
+        for (Ingredient ingredient : recipe.getIngredients()) {
+            if (ingredient.isEmpty()) continue;
+            //custom ingredients may match more than what getItems() reports
+            if (ingredient.getClass() != Ingredient.class) return null;
+            final ItemStack[] items = ingredient.getItems();
+            return items.length == 0 ? null : items;
+        }
+        return null;
+    }
+
+    private static int compareIds(ResourceLocation a, ResourceLocation b) {
+        if (a.getNamespace().equals(b.getNamespace())) {
+            return a.getPath().compareTo(b.getPath());
+        }
+        if (a.getNamespace().equals("minecraft")) {
+            return 1;
+        } else if (b.getNamespace().equals("minecraft")) {
+            return -1;
+        } else {
+            return a.getNamespace().compareTo(b.getNamespace());
+        }
+    }
+
+    private record Entry<T>(int rank, T recipe) {
+    }
+}
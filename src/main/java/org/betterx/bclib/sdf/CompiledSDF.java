@@ -0,0 +1,13 @@
+package org.betterx.bclib.sdf;
+
+/**
+ * An immutable distance function created by {@link SDF#compile()}.
+ * <p>
+ * A compiled function captures the configuration of the tree at the time it was compiled and does
+ * not keep any per-evaluation state, so a single instance can be evaluated from multiple worldgen
+ * threads at once.
+ */
+@FunctionalInterface
+public interface CompiledSDF {
+    float getDistance(float x, float y, float z);
+}
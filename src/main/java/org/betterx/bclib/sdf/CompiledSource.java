@@ -0,0 +1,34 @@
+package org.betterx.bclib.sdf;
+
+import net.minecraft.world.level.block.state.BlockState;
+
+/**
+ * An immutable function created by {@link SDF#compileSource()} that returns the part of the tree whose
+ * {@link SDF#getBlockState} provides the block at a position. It makes the same choice as a call to
+ * {@link SDF#getDistance(float, float, float)} followed by {@link SDF#getBlockState}, but does not keep
+ * any per-evaluation state.
+ */
+@FunctionalInterface
+public interface CompiledSource {
+    SDF getSource(float x, float y, float z);
+
+    /**
+     * A source that does not depend on the position.
+     *
+     * @param source The SDF that provides the blocks
+     * @param state  The block the source places everywhere, or {@code null} if it depends on the position
+     */
+    record Constant(SDF source, BlockState state) implements CompiledSource {
+        @Override
+        public SDF getSource(float x, float y, float z) {
+            return source;
+        }
+
+        /**
+         * @return {@code true} if both sources are known to place the same block everywhere
+         */
+        public boolean placesSameBlock(Constant other) {
+            return source == other.source || (state != null && state == other.state);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package org.betterx.bclib.sdf;
+
+/**
+ * A slab of {@link #BRICK} y-layers of distance values that is filled brick by brick.
+ * <p>
+ * Before the voxels of a brick are evaluated, the distance at its center is checked. If the
+ * {@link SDF#getLipschitzBound() Lipschitz bound} of the tree guarantees that the sign of the distance
+ * can not change inside the brick, the whole brick gets the center value. Otherwise it is split into
+ * eight smaller bricks until single voxels are reached, so only the voxels near the surface of the
+ * shape are evaluated one by one.
+ */
+class DistanceGrid {
+    static final int BRICK = 8;
+
+    private final CompiledSDF function;
+    private final float lipschitz;
+    private final int minX;
+    private final int minZ;
+    private final int sizeX;
+    private final int sizeZ;
+    private final float[] values;
+    private int minY;
+    private int height;
+
+    DistanceGrid(CompiledSDF function, float lipschitz, int minX, int minZ, int sizeX, int sizeZ) {
+        this.function = function;
+        this.lipschitz = lipschitz;
+        this.minX = minX;
+        this.minZ = minZ;
+        this.sizeX = sizeX;
+        this.sizeZ = sizeZ;
+        this.values = new float[BRICK * sizeX * sizeZ];
+    }
+
+    /**
+     * Evaluates the layers {@code minY} to {@code minY + height - 1}.
+     *
+     * @param minY   The first layer, relative to the origin of the SDF
+     * @param height The number of layers, at most {@link #BRICK}
+     */
+    void fill(int minY, int height) {
+        this.minY = minY;
+        this.height = height;
+        for (int x = 0; x < sizeX; x += BRICK) {
+            for (int z = 0; z < sizeZ; z += BRICK) {
+                fillBrick(x, 0, z, BRICK);
+            }
+        }
+    }
+
+    /**
+     * @param x x-index inside the grid
+     * @param y layer inside the current slab
+     * @param z z-index inside the grid
+     * @return The distance (or a value with the same sign) of the voxel
+     */
+    float get(int x, int y, int z) {
+        return values[(y * sizeX + x) * sizeZ + z];
+    }
+
+    private void fillBrick(int x0, int y0, int z0, int size) {
+        final int x1 = Math.min(x0 + size, sizeX);
+        final int y1 = Math.min(y0 + size, height);
+        final int z1 = Math.min(z0 + size, sizeZ);
+        if (x0 >= x1 || y0 >= y1 || z0 >= z1) return;
+
+        if (size > 1 && Float.isFinite(lipschitz)) {
+            final float hx = (x1 - x0 - 1) * 0.5F;
+            final float hy = (y1 - y0 - 1) * 0.5F;
+            final float hz = (z1 - z0 - 1) * 0.5F;
+            final float d = function.getDistance(minX + x0 + hx, minY + y0 + hy, minZ + z0 + hz);
+            if (Math.abs(d) > lipschitz * (float) Math.sqrt(hx * hx + hy * hy + hz * hz)) {
+                set(x0, y0, z0, x1, y1, z1, d);
+                return;
+            }
+
+            final int half = size >> 1;
+            for (int dy = 0; dy < size; dy += half) {
+                for (int dx = 0; dx < size; dx += half) {
+                    for (int dz = 0; dz < size; dz += half) {
+                        fillBrick(x0 + dx, y0 + dy, z0 + dz, half);
+                    }
+                }
+            }
+            return;
+        }
+
+        for (int y = y0; y < y1; y++) {
+            for (int x = x0; x < x1; x++) {
+                final int row = (y * sizeX + x) * sizeZ;
+                for (int z = z0; z < z1; z++) {
+                    values[row + z] = function.getDistance(minX + x, minY + y, minZ + z);
+                }
+            }
+        }
+    }
+
+    private void set(int x0, int y0, int z0, int x1, int y1, int z1, float value) {
+        for (int y = y0; y < y1; y++) {
+            for (int x = x0; x < x1; x++) {
+                final int row = (y * sizeX + x) * sizeZ;
+                for (int z = z0; z < z1; z++) {
+                    values[row + z] = value;
+                }
+            }
+        }
+    }
+}
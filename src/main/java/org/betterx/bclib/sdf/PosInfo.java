@@ -5,20 +5,30 @@ import net.minecraft.core.Direction;
 import net.minecraft.world.level.block.Blocks;
 import net.minecraft.world.level.block.state.BlockState;
 
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+
 import java.util.Map;
 
 public class PosInfo implements Comparable<PosInfo> {
     private static final BlockState AIR = Blocks.AIR.defaultBlockState();
-    private final Map<BlockPos, PosInfo> blocks;
-    private final Map<BlockPos, PosInfo> add;
+    private final Storage blocks;
+    private final Storage add;
     private final BlockPos pos;
     private BlockState state;
 
     public static PosInfo create(Map<BlockPos, PosInfo> blocks, Map<BlockPos, PosInfo> add, BlockPos pos) {
-        return new PosInfo(blocks, add, pos);
+        return new PosInfo(new MapStorage(blocks), new MapStorage(add), pos);
+    }
+
+    /**
+     * Same as {@link #create(Map, Map, BlockPos)}, but the infos are keyed by {@link BlockPos#asLong()},
+     * which avoids hashing and comparing {@link BlockPos} instances for every lookup.
+     */
+    public static PosInfo create(Long2ObjectMap<PosInfo> blocks, Long2ObjectMap<PosInfo> add, BlockPos pos) {
+        return new PosInfo(new LongStorage(blocks), new LongStorage(add), pos);
     }
 
-    private PosInfo(Map<BlockPos, PosInfo> blocks, Map<BlockPos, PosInfo> add, BlockPos pos) {
+    private PosInfo(Storage blocks, Storage add, BlockPos pos) {
         this.blocks = blocks;
         this.add = add;
         this.pos = pos;
@@ -101,4 +111,34 @@ public class PosInfo implements Comparable<PosInfo> {
         info.state = state;
         add.put(pos, info);
     }
+
+    private interface Storage {
+        PosInfo get(BlockPos pos);
+
+        void put(BlockPos pos, PosInfo info);
+    }
+
+    private record MapStorage(Map<BlockPos, PosInfo> map) implements Storage {
+        @Override
+        public PosInfo get(BlockPos pos) {
+            return map.get(pos);
+        }
+
+        @Override
+        public void put(BlockPos pos, PosInfo info) {
+            map.put(pos, info);
+        }
+    }
+
+    private record LongStorage(Long2ObjectMap<PosInfo> map) implements Storage {
+        @Override
+        public PosInfo get(BlockPos pos) {
+            return map.get(pos.asLong());
+        }
+
+        @Override
+        public void put(BlockPos pos, PosInfo info) {
+            map.put(pos.asLong(), info);
+        }
+    }
 }
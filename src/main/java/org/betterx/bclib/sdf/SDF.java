@@ -6,6 +6,7 @@ import org.betterx.bclib.util.BlocksHelper;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.BlockPos.MutableBlockPos;
 import net.minecraft.core.Direction;
+import net.minecraft.util.Mth;
 import net.minecraft.world.level.ServerLevelAccessor;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.phys.AABB;
@@ -13,6 +14,7 @@ import net.minecraft.world.phys.AABB;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 
 import java.util.*;
 import java.util.function.Function;
@@ -25,6 +27,83 @@ public abstract class SDF {
 
     public abstract float getDistance(float x, float y, float z);
 
+    /**
+     * Creates an immutable, thread-safe version of the distance function of this SDF tree.
+     * <p>
+     * Later changes to the tree are not reflected in the returned function. Subclasses that keep
+     * per-evaluation state should override this method, the default implementation simply delegates
+     * to {@link #getDistance(float, float, float)}.
+     *
+     * @return The compiled distance function
+     */
+    public CompiledSDF compile() {
+        return this::getDistance;
+    }
+
+    /**
+     * Creates an immutable function that selects the part of this tree that provides the block at a
+     * position (see {@link CompiledSource}).
+     * <p>
+     * The default implementation evaluates the stateful {@link #getDistance(float, float, float)} to let
+     * the tree make its selection, subclasses should override it if the selection can be compiled.
+     *
+     * @return The compiled selection
+     */
+    public CompiledSource compileSource() {
+        return (x, y, z) -> {
+            getDistance(x, y, z);
+            return this;
+        };
+    }
+
+    /**
+     * Returns a box (relative to the origin of this SDF) that contains every point with a negative
+     * distance.
+     *
+     * @return The bounds of the shape, or {@code null} if the shape is unbounded or the bounds are unknown
+     */
+    public AABB getBoundingBox() {
+        return null;
+    }
+
+    /**
+     * Returns how much the distance can change at most when the position moves by one block. Exact
+     * distance functions return 1. The bounded fill uses this value to skip the evaluation of blocks
+     * that are provably all inside or all outside of the shape.
+     *
+     * @return The Lipschitz constant of the distance, or {@link Float#POSITIVE_INFINITY} if it is unknown
+     */
+    public float getLipschitzBound() {
+        return Float.POSITIVE_INFINITY;
+    }
+
+    /**
+     * Returns how much the distance grows at least when the position moves one block away from the
+     * surface. Exact distance functions return 1. Operators that grow the bounds of their source by a
+     * distance use this value to convert the distance into blocks.
+     *
+     * @return A lower bound of the gradient of the distance, or 0 if it is unknown
+     */
+    public float getMinGradient() {
+        return 0;
+    }
+
+    /**
+     * Grows the bounds of a source, so they contain every point where the distance of the source is
+     * below {@code distance}.
+     *
+     * @param box         The bounds of the source
+     * @param distance    The distance the shape is grown by
+     * @param minGradient The {@link #getMinGradient() minimal gradient} of the source
+     * @return The grown box, or {@code null} if the box is unknown or the gradient of the source is unknown
+     */
+    protected static AABB inflate(AABB box, float distance, float minGradient) {
+        if (box == null) return null;
+        if (distance <= 0) return box;
+        if (minGradient <= 0) return null;
+        return box.inflate(distance / minGradient);
+    }
+
     public abstract BlockState getBlockState(BlockPos pos);
 
     public SDF addPostProcess(Function<PosInfo, BlockState> postProcess) {
@@ -149,6 +228,90 @@ public abstract class SDF {
         }
     }
 
+    /**
+     * Fills the shape into the world using the {@link #getBoundingBox() bounds} of the tree instead of
+     * a flood fill.
+     * <p>
+     * The distance is evaluated in slabs of a few y-layers into a dense array using the
+     * {@link #compile() compiled} function, skipping bricks that are entirely inside or outside of the
+     * shape (see {@link #getLipschitzBound()}). The block of every voxel inside the shape is picked
+     * with the {@link #compileSource() compiled} source selection. The infos are stored in maps keyed by
+     * packed positions and the blocks are read and written one chunk section at a time. Unlike
+     * {@link #fillRecursive}, parts of the shape that are not connected to the center are placed as
+     * well. Trees without bounds fall back to {@link #fillRecursive(ServerLevelAccessor, BlockPos)}.
+     *
+     * @param world  The world to place the blocks in
+     * @param center The world position of the origin of this SDF
+     */
+    public void fillBounded(ServerLevelAccessor world, BlockPos center) {
+        final AABB box = getBoundingBox();
+        if (box == null) {
+            fillRecursive(world, center);
+            return;
+        }
+
+        final int minX = Mth.floor(box.minX);
+        final int minZ = Mth.floor(box.minZ);
+        final int minY = Math.max(Mth.floor(box.minY), world.getMinBuildHeight() - center.getY());
+        final int maxY = Math.min(Mth.ceil(box.maxY), world.getMaxBuildHeight() - 1 - center.getY());
+        final int sizeX = Mth.ceil(box.maxX) - minX + 1;
+        final int sizeZ = Mth.ceil(box.maxZ) - minZ + 1;
+        if (maxY < minY) return;
+
+        final SectionBlockWriter writer = new SectionBlockWriter(world);
+        final Long2ObjectOpenHashMap<PosInfo> mapWorld = new Long2ObjectOpenHashMap<>();
+        final Long2ObjectOpenHashMap<PosInfo> addInfo = new Long2ObjectOpenHashMap<>();
+        final DistanceGrid grid = new DistanceGrid(compile(), getLipschitzBound(), minX, minZ, sizeX, sizeZ);
+        final CompiledSource sources = compileSource();
+        //trees that place the same block everywhere do not need to select a source per voxel
+        final SDF constant = sources instanceof CompiledSource.Constant c ? c.source() : null;
+        final MutableBlockPos wpos = new MutableBlockPos();
+
+        for (int slabY = minY; slabY <= maxY; slabY += DistanceGrid.BRICK) {
+            final int height = Math.min(DistanceGrid.BRICK, maxY - slabY + 1);
+            grid.fill(slabY, height);
+
+            //z is the innermost loop, which keeps the grid and the block sections in memory order
+            for (int dy = 0; dy < height; dy++) {
+                final int y = slabY + dy;
+                for (int x = 0; x < sizeX; x++) {
+                    for (int z = 0; z < sizeZ; z++) {
+                        if (grid.get(x, dy, z) >= 0) continue;
+                        final int lx = minX + x;
+                        final int lz = minZ + z;
+                        wpos.set(center.getX() + lx, center.getY() + y, center.getZ() + lz);
+                        if (canReplace.apply(writer.getBlockState(wpos))) {
+                            final SDF source = constant != null ? constant : sources.getSource(lx, y, lz);
+                            final BlockPos pos = wpos.immutable();
+                            PosInfo.create(mapWorld, addInfo, pos).setState(source.getBlockState(pos));
+                        }
+                    }
+                }
+            }
+        }
+
+        List<PosInfo> infos = new ArrayList<PosInfo>(mapWorld.values());
+        if (infos.size() > 0) {
+            Collections.sort(infos);
+            postProcesses.forEach((postProcess) -> {
+                infos.forEach((info) -> {
+                    info.setState(postProcess.apply(info));
+                });
+            });
+            writer.write(infos, null);
+
+            infos.clear();
+            infos.addAll(addInfo.values());
+            Collections.sort(infos);
+            postProcesses.forEach((postProcess) -> {
+                infos.forEach((info) -> {
+                    info.setState(postProcess.apply(info));
+                });
+            });
+            writer.write(infos, canReplace);
+        }
+    }
+
     public void fillRecursiveIgnore(ServerLevelAccessor world, BlockPos start, Function<BlockState, Boolean> ignore) {
         Map<BlockPos, PosInfo> mapWorld = Maps.newHashMap();
         Map<BlockPos, PosInfo> addInfo = Maps.newHashMap();
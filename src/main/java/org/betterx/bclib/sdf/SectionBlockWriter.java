@@ -0,0 +1,106 @@
+package org.betterx.bclib.sdf;
+
+import org.betterx.bclib.util.BlocksHelper;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.server.level.WorldGenRegion;
+import net.minecraft.world.entity.ai.village.poi.PoiTypes;
+import net.minecraft.world.level.ServerLevelAccessor;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.ChunkAccess;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Reads and writes the blocks of an SDF fill one {@link LevelChunkSection} at a time.
+ * <p>
+ * Inside a {@link WorldGenRegion} the chunk and section of a position are only looked up when the
+ * section changes, and plain blocks are written directly to the chunk. Blocks that need the extra
+ * bookkeeping of {@link WorldGenRegion#setBlock(BlockPos, BlockState, int, int)} (block entities,
+ * points of interest or post processing) and all other levels use
+ * {@link BlocksHelper#setWithoutUpdate(net.minecraft.world.level.LevelAccessor, BlockPos, BlockState)}.
+ */
+class SectionBlockWriter {
+    private static final Comparator<PosInfo> SECTION_ORDER = Comparator
+            .comparingLong((PosInfo info) -> SectionPos.asLong(info.getPos()))
+            .thenComparingLong(info -> info.getPos().asLong());
+
+    private final ServerLevelAccessor world;
+    private final WorldGenRegion region;
+    private long sectionKey = Long.MAX_VALUE;
+    private ChunkAccess chunk;
+    private LevelChunkSection section;
+    private boolean writable;
+
+    SectionBlockWriter(ServerLevelAccessor world) {
+        this.world = world;
+        this.region = world instanceof WorldGenRegion r ? r : null;
+    }
+
+    BlockState getBlockState(BlockPos pos) {
+        if (region == null) {
+            return world.getBlockState(pos);
+        }
+        selectSection(pos);
+        return section.getBlockState(pos.getX() & 15, pos.getY() & 15, pos.getZ() & 15);
+    }
+
+    /**
+     * Writes the state of all infos, sorted by section.
+     *
+     * @param infos      The blocks to place
+     * @param canReplace When not null, a block is only placed if this accepts the current state
+     */
+    void write(List<PosInfo> infos, Function<BlockState, Boolean> canReplace) {
+        final List<PosInfo> sorted = new ArrayList<>(infos);
+        sorted.sort(SECTION_ORDER);
+
+        for (PosInfo info : sorted) {
+            final BlockPos pos = info.getPos();
+            final BlockState state = info.getState();
+            if (region == null) {
+                if (canReplace == null || canReplace.apply(world.getBlockState(pos))) {
+                    BlocksHelper.setWithoutUpdate(world, pos, state);
+                }
+                continue;
+            }
+
+            if (world.isOutsideBuildHeight(pos)) continue;
+            selectSection(pos);
+            if (!writable) continue;
+            final BlockState old = section.getBlockState(pos.getX() & 15, pos.getY() & 15, pos.getZ() & 15);
+            if (canReplace != null && !canReplace.apply(old)) continue;
+
+            if (needsRegionUpdate(old, state, pos)) {
+                BlocksHelper.setWithoutUpdate(world, pos, state);
+            } else {
+                chunk.setBlockState(pos, state, false);
+            }
+        }
+    }
+
+    private boolean needsRegionUpdate(BlockState old, BlockState state, BlockPos pos) {
+        return state.hasBlockEntity()
+                || old.hasBlockEntity()
+                || state.hasPostProcess(region, pos)
+                || PoiTypes.forState(old).isPresent()
+                || PoiTypes.forState(state).isPresent();
+    }
+
+    private void selectSection(BlockPos pos) {
+        final long key = SectionPos.asLong(pos);
+        if (key == sectionKey) return;
+        sectionKey = key;
+        if (chunk == null || chunk.getPos().x != pos.getX() >> 4 || chunk.getPos().z != pos.getZ() >> 4) {
+            chunk = region.getChunk(pos.getX() >> 4, pos.getZ() >> 4);
+        }
+        section = chunk.getSection(chunk.getSectionIndex(pos.getY()));
+        //the write check of the region only depends on the chunk and the height
+        writable = region.ensureCanWrite(pos);
+    }
+}
@@ -1,9 +1,12 @@
 package org.betterx.bclib.sdf.operator;
 
+import org.betterx.bclib.sdf.CompiledSDF;
+import org.betterx.bclib.sdf.CompiledSource;
 import org.betterx.bclib.sdf.SDF;
 
 import net.minecraft.core.BlockPos;
 import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.phys.AABB;
 
 public abstract class SDFBinary extends SDF {
     protected SDF sourceA;
@@ -32,4 +35,37 @@ public abstract class SDFBinary extends SDF {
             return sourceB.getBlockState(pos);
         }
     }
+
+    @Override
+    public CompiledSource compileSource() {
+        final CompiledSource a = sourceA.compileSource();
+        final CompiledSource b = sourceB.compileSource();
+        //no need to compare the distances if both sources place the same block
+        if (a instanceof CompiledSource.Constant ca && b instanceof CompiledSource.Constant cb && ca.placesSameBlock(cb)) {
+            return a;
+        }
+
+        //same choice as selectValue
+        final CompiledSDF distanceA = sourceA.compile();
+        final CompiledSDF distanceB = sourceB.compile();
+        return (x, y, z) -> distanceA.getDistance(x, y, z) < distanceB.getDistance(x, y, z)
+                ? a.getSource(x, y, z)
+                : b.getSource(x, y, z);
+    }
+
+    /**
+     * @return The larger Lipschitz bound of both sources
+     */
+    protected float getSourceLipschitzBound() {
+        return Math.max(sourceA.getLipschitzBound(), sourceB.getLipschitzBound());
+    }
+
+    /**
+     * @return The overlap of both boxes, {@code null} boxes are treated as unbounded
+     */
+    protected static AABB intersect(AABB a, AABB b) {
+        if (a == null) return b;
+        if (b == null) return a;
+        return a.intersect(b);
+    }
 }
@@ -1,5 +1,7 @@
 package org.betterx.bclib.sdf.operator;
 
+import org.betterx.bclib.sdf.CompiledSDF;
+import org.betterx.bclib.sdf.CompiledSource;
 
 import org.joml.Vector3f;
 
@@ -20,4 +22,28 @@ public class SDFCoordModify extends SDFUnary {
         function.accept(pos);
         return this.source.getDistance(pos.x(), pos.y(), pos.z());
     }
+
+    @Override
+    public CompiledSDF compile() {
+        final CompiledSDF source = this.source.compile();
+        final Consumer<Vector3f> function = this.function;
+        return (x, y, z) -> {
+            //the function mutates the vector, so every evaluation needs its own instance
+            final Vector3f pos = new Vector3f(x, y, z);
+            function.accept(pos);
+            return source.getDistance(pos.x(), pos.y(), pos.z());
+        };
+    }
+
+    @Override
+    public CompiledSource compileSource() {
+        final CompiledSource source = this.source.compileSource();
+        if (source instanceof CompiledSource.Constant) return source;
+        final Consumer<Vector3f> function = this.function;
+        return (x, y, z) -> {
+            final Vector3f pos = new Vector3f(x, y, z);
+            function.accept(pos);
+            return source.getSource(pos.x(), pos.y(), pos.z());
+        };
+    }
 }
@@ -1,7 +1,11 @@
 package org.betterx.bclib.sdf.operator;
 
+import org.betterx.bclib.sdf.CompiledSDF;
+import org.betterx.bclib.sdf.CompiledSource;
 import org.betterx.bclib.util.MHelper;
 
+import net.minecraft.world.phys.AABB;
+
 public class SDFCopyRotate extends SDFUnary {
     int count = 1;
 
@@ -16,4 +20,26 @@ public class SDFCopyRotate extends SDFUnary {
         float pz = MHelper.length(x, z);
         return this.source.getDistance(px, y, pz);
     }
+
+    @Override
+    public CompiledSDF compile() {
+        final CompiledSDF source = this.source.compile();
+        return (x, y, z) -> source.getDistance((float) Math.atan2(x, z), y, MHelper.length(x, z));
+    }
+
+    @Override
+    public CompiledSource compileSource() {
+        final CompiledSource source = this.source.compileSource();
+        if (source instanceof CompiledSource.Constant) return source;
+        return (x, y, z) -> source.getSource((float) Math.atan2(x, z), y, MHelper.length(x, z));
+    }
+
+    @Override
+    public AABB getBoundingBox() {
+        final AABB box = source.getBoundingBox();
+        if (box == null) return null;
+        //the z-axis of the source is the distance to the rotation axis
+        final double radius = Math.max(Math.abs(box.minZ), Math.abs(box.maxZ));
+        return new AABB(-radius, box.minY, -radius, radius, box.maxY, radius);
+    }
 }
@@ -1,5 +1,9 @@
 package org.betterx.bclib.sdf.operator;
 
+import org.betterx.bclib.sdf.CompiledSDF;
+import org.betterx.bclib.sdf.CompiledSource;
+
+import net.minecraft.world.phys.AABB;
 
 import org.joml.Vector3f;
 
@@ -19,4 +23,42 @@ public class SDFDisplacement extends SDFUnary {
         pos.set(x, y, z);
         return this.source.getDistance(x, y, z) + displace.apply(pos);
     }
+
+    @Override
+    public CompiledSDF compile() {
+        final CompiledSDF source = this.source.compile();
+        final CompiledSDF displacement = compileDisplacement();
+        return (x, y, z) -> source.getDistance(x, y, z) + displacement.getDistance(x, y, z);
+    }
+
+    @Override
+    public CompiledSource compileSource() {
+        //the position is not moved
+        return source.compileSource();
+    }
+
+    /**
+     * Creates a thread-safe version of the displacement function. Subclasses with a known displacement
+     * should override this to avoid creating a new vector for every evaluation.
+     *
+     * @return The displacement for a given position
+     */
+    protected CompiledSDF compileDisplacement() {
+        final Function<Vector3f, Float> displace = this.displace;
+        return (x, y, z) -> displace.apply(new Vector3f(x, y, z));
+    }
+
+    /**
+     * @return The largest absolute value the displacement can have, or a negative value if it is unknown
+     */
+    protected float getMaxDisplacement() {
+        return -1;
+    }
+
+    @Override
+    public AABB getBoundingBox() {
+        final float max = getMaxDisplacement();
+        if (max < 0) return null;
+        return inflate(source.getBoundingBox(), max, source.getMinGradient());
+    }
 }
@@ -1,5 +1,7 @@
 package org.betterx.bclib.sdf.operator;
 
+import org.betterx.bclib.sdf.CompiledSDF;
+
 public class SDFFlatWave extends SDFDisplacement {
     private int rayCount = 1;
     private float intensity;
@@ -25,4 +27,17 @@ public class SDFFlatWave extends SDFDisplacement {
         this.intensity = intensity;
         return this;
     }
+
+    @Override
+    protected CompiledSDF compileDisplacement() {
+        final int rayCount = this.rayCount;
+        final float angle = this.angle;
+        final float intensity = this.intensity;
+        return (x, y, z) -> (float) Math.cos(Math.atan2(x, z) * rayCount + angle) * intensity;
+    }
+
+    @Override
+    protected float getMaxDisplacement() {
+        return Math.abs(intensity);
+    }
 }
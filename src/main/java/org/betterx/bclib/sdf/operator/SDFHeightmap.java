@@ -1,5 +1,7 @@
 package org.betterx.bclib.sdf.operator;
 
+import org.betterx.bclib.sdf.CompiledSDF;
+
 import com.mojang.blaze3d.platform.NativeImage;
 import net.minecraft.util.Mth;
 
@@ -13,28 +15,52 @@ public class SDFHeightmap extends SDFDisplacement {
     private float sin = 0;
 
     public SDFHeightmap() {
-        setFunction((pos) -> {
-            if (map == null) {
-                return 0F;
-            }
-            float px = Mth.clamp(pos.x() * scale + offsetX, 0, map.getWidth() - 2);
-            float pz = Mth.clamp(pos.z() * scale + offsetZ, 0, map.getHeight() - 2);
-            float dx = (px * cos - pz * sin);
-            float dz = (pz * cos + px * sin);
-            int x1 = Mth.floor(dx);
-            int z1 = Mth.floor(dz);
-            int x2 = x1 + 1;
-            int z2 = z1 + 1;
-            dx = dx - x1;
-            dz = dz - z1;
-            float a = (map.getPixelRGBA(x1, z1) & 255) / 255F;
-            float b = (map.getPixelRGBA(x2, z1) & 255) / 255F;
-            float c = (map.getPixelRGBA(x1, z2) & 255) / 255F;
-            float d = (map.getPixelRGBA(x2, z2) & 255) / 255F;
-            a = Mth.lerp(dx, a, b);
-            b = Mth.lerp(dx, c, d);
-            return -Mth.lerp(dz, a, b) * intensity;
-        });
+        setFunction((pos) -> getDisplacement(pos.x(), pos.z(), map, scale, offsetX, offsetZ, cos, sin, intensity));
+    }
+
+    @Override
+    protected CompiledSDF compileDisplacement() {
+        final NativeImage map = this.map;
+        final float scale = this.scale;
+        final float offsetX = this.offsetX;
+        final float offsetZ = this.offsetZ;
+        final float cos = this.cos;
+        final float sin = this.sin;
+        final float intensity = this.intensity;
+        return (x, y, z) -> getDisplacement(x, z, map, scale, offsetX, offsetZ, cos, sin, intensity);
+    }
+
+    private static float getDisplacement(
+            float x,
+            float z,
+            NativeImage map,
+            float scale,
+            float offsetX,
+            float offsetZ,
+            float cos,
+            float sin,
+            float intensity
+    ) {
+        if (map == null) {
+            return 0F;
+        }
+        float px = Mth.clamp(x * scale + offsetX, 0, map.getWidth() - 2);
+        float pz = Mth.clamp(z * scale + offsetZ, 0, map.getHeight() - 2);
+        float dx = (px * cos - pz * sin);
+        float dz = (pz * cos + px * sin);
+        int x1 = Mth.floor(dx);
+        int z1 = Mth.floor(dz);
+        int x2 = x1 + 1;
+        int z2 = z1 + 1;
+        dx = dx - x1;
+        dz = dz - z1;
+        float a = (map.getPixelRGBA(x1, z1) & 255) / 255F;
+        float b = (map.getPixelRGBA(x2, z1) & 255) / 255F;
+        float c = (map.getPixelRGBA(x1, z2) & 255) / 255F;
+        float d = (map.getPixelRGBA(x2, z2) & 255) / 255F;
+        a = Mth.lerp(dx, a, b);
+        b = Mth.lerp(dx, c, d);
+        return -Mth.lerp(dz, a, b) * intensity;
     }
 
     public SDFHeightmap setMap(NativeImage map) {
@@ -60,4 +86,9 @@ public class SDFHeightmap extends SDFDisplacement {
         this.intensity = intensity;
         return this;
     }
+
+    @Override
+    protected float getMaxDisplacement() {
+        return map == null ? 0 : Math.abs(intensity);
+    }
 }
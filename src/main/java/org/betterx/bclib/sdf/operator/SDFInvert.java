@@ -1,8 +1,33 @@
 package org.betterx.bclib.sdf.operator;
 
+import org.betterx.bclib.sdf.CompiledSDF;
+import org.betterx.bclib.sdf.CompiledSource;
+
 public class SDFInvert extends SDFUnary {
     @Override
     public float getDistance(float x, float y, float z) {
         return -this.source.getDistance(x, y, z);
     }
+
+    @Override
+    public CompiledSDF compile() {
+        final CompiledSDF source = this.source.compile();
+        return (x, y, z) -> -source.getDistance(x, y, z);
+    }
+
+    @Override
+    public CompiledSource compileSource() {
+        //the position is not moved
+        return source.compileSource();
+    }
+
+    @Override
+    public float getLipschitzBound() {
+        return source.getLipschitzBound();
+    }
+
+    @Override
+    public float getMinGradient() {
+        return source.getMinGradient();
+    }
 }
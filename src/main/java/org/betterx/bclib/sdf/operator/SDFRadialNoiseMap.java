@@ -1,6 +1,7 @@
 package org.betterx.bclib.sdf.operator;
 
 import org.betterx.bclib.noise.OpenSimplexNoise;
+import org.betterx.bclib.sdf.CompiledSDF;
 import org.betterx.bclib.util.MHelper;
 
 import net.minecraft.util.Mth;
@@ -16,25 +17,45 @@ public class SDFRadialNoiseMap extends SDFDisplacement {
     private short offsetZ;
 
     public SDFRadialNoiseMap() {
-        setFunction((pos) -> {
-            if (intensity == 0) {
-                return 0F;
-            }
-            float px = pos.x() / radius;
-            float pz = pos.z() / radius;
-            float distance = MHelper.lengthSqr(px, pz);
-            if (distance > 1) {
-                return 0F;
-            }
-            distance = 1 - Mth.sqrt(distance);
-            float nx = px * COS - pz * SIN;
-            float nz = pz * COS + px * SIN;
-            distance *= getNoise(nx * 0.75 + offsetX, nz * 0.75 + offsetZ);
-            return distance * intensity;
-        });
+        setFunction((pos) -> getDisplacement(pos.x(), pos.z(), noise, radius, intensity, offsetX, offsetZ));
     }
 
-    private float getNoise(double x, double z) {
+    @Override
+    protected CompiledSDF compileDisplacement() {
+        final OpenSimplexNoise noise = this.noise;
+        final float radius = this.radius;
+        final float intensity = this.intensity;
+        final short offsetX = this.offsetX;
+        final short offsetZ = this.offsetZ;
+        return (x, y, z) -> getDisplacement(x, z, noise, radius, intensity, offsetX, offsetZ);
+    }
+
+    private static float getDisplacement(
+            float x,
+            float z,
+            OpenSimplexNoise noise,
+            float radius,
+            float intensity,
+            short offsetX,
+            short offsetZ
+    ) {
+        if (intensity == 0) {
+            return 0F;
+        }
+        float px = x / radius;
+        float pz = z / radius;
+        float distance = MHelper.lengthSqr(px, pz);
+        if (distance > 1) {
+            return 0F;
+        }
+        distance = 1 - Mth.sqrt(distance);
+        float nx = px * COS - pz * SIN;
+        float nz = pz * COS + px * SIN;
+        distance *= getNoise(noise, nx * 0.75 + offsetX, nz * 0.75 + offsetZ);
+        return distance * intensity;
+    }
+
+    private static float getNoise(OpenSimplexNoise noise, double x, double z) {
         return (float) noise.eval(x, z) + (float) noise.eval(
                 x * 3 + 1000,
                 z * 3
@@ -61,4 +82,10 @@ public class SDFRadialNoiseMap extends SDFDisplacement {
         offsetZ = (short) (z & 32767);
         return this;
     }
+
+    @Override
+    protected float getMaxDisplacement() {
+        //sum of the amplitudes of the three octaves in getNoise
+        return Math.abs(intensity) * 1.7F;
+    }
 }
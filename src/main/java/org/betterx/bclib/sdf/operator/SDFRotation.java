@@ -1,8 +1,12 @@
 package org.betterx.bclib.sdf.operator;
 
+import org.betterx.bclib.sdf.CompiledSDF;
+import org.betterx.bclib.sdf.CompiledSource;
 
 import com.mojang.math.Axis;
+import net.minecraft.world.phys.AABB;
 
+import org.joml.Matrix3f;
 import org.joml.Quaternionf;
 import org.joml.Vector3f;
 
@@ -26,4 +30,64 @@ public class SDFRotation extends SDFUnary {
         pos.rotate(rotation);
         return source.getDistance(pos.x(), pos.y(), pos.z());
     }
+
+    @Override
+    public CompiledSDF compile() {
+        final CompiledSDF source = this.source.compile();
+        //apply the same rotation as a matrix, so no shared vector is needed
+        final Matrix3f m = new Matrix3f().rotation(rotation);
+        final float m00 = m.m00(), m01 = m.m01(), m02 = m.m02();
+        final float m10 = m.m10(), m11 = m.m11(), m12 = m.m12();
+        final float m20 = m.m20(), m21 = m.m21(), m22 = m.m22();
+        return (x, y, z) -> source.getDistance(
+                m00 * x + m10 * y + m20 * z,
+                m01 * x + m11 * y + m21 * z,
+                m02 * x + m12 * y + m22 * z
+        );
+    }
+
+    @Override
+    public CompiledSource compileSource() {
+        final CompiledSource source = this.source.compileSource();
+        if (source instanceof CompiledSource.Constant) return source;
+        final Matrix3f m = new Matrix3f().rotation(rotation);
+        final float m00 = m.m00(), m01 = m.m01(), m02 = m.m02();
+        final float m10 = m.m10(), m11 = m.m11(), m12 = m.m12();
+        final float m20 = m.m20(), m21 = m.m21(), m22 = m.m22();
+        return (x, y, z) -> source.getSource(
+                m00 * x + m10 * y + m20 * z,
+                m01 * x + m11 * y + m21 * z,
+                m02 * x + m12 * y + m22 * z
+        );
+    }
+
+    @Override
+    public AABB getBoundingBox() {
+        final AABB box = source.getBoundingBox();
+        if (box == null) return null;
+        //the source is sampled at the rotated position, so its bounds are rotated the other way
+        final Quaternionf inverse = rotation.conjugate(new Quaternionf());
+        final Vector3f corner = new Vector3f();
+        AABB result = null;
+        for (int i = 0; i < 8; i++) {
+            corner.set(
+                    (float) ((i & 1) == 0 ? box.minX : box.maxX),
+                    (float) ((i & 2) == 0 ? box.minY : box.maxY),
+                    (float) ((i & 4) == 0 ? box.minZ : box.maxZ)
+            ).rotate(inverse);
+            final AABB point = new AABB(corner.x(), corner.y(), corner.z(), corner.x(), corner.y(), corner.z());
+            result = result == null ? point : result.minmax(point);
+        }
+        return result;
+    }
+
+    @Override
+    public float getLipschitzBound() {
+        return source.getLipschitzBound();
+    }
+
+    @Override
+    public float getMinGradient() {
+        return source.getMinGradient();
+    }
 }
@@ -1,5 +1,10 @@
 package org.betterx.bclib.sdf.operator;
 
+import org.betterx.bclib.sdf.CompiledSDF;
+import org.betterx.bclib.sdf.CompiledSource;
+
+import net.minecraft.world.phys.AABB;
+
 public class SDFRound extends SDFUnary {
     private float radius;
 
@@ -12,4 +17,32 @@ public class SDFRound extends SDFUnary {
     public float getDistance(float x, float y, float z) {
         return this.source.getDistance(x, y, z) - radius;
     }
+
+    @Override
+    public CompiledSDF compile() {
+        final CompiledSDF source = this.source.compile();
+        final float radius = this.radius;
+        return (x, y, z) -> source.getDistance(x, y, z) - radius;
+    }
+
+    @Override
+    public CompiledSource compileSource() {
+        //the position is not moved
+        return source.compileSource();
+    }
+
+    @Override
+    public AABB getBoundingBox() {
+        return inflate(source.getBoundingBox(), radius, source.getMinGradient());
+    }
+
+    @Override
+    public float getLipschitzBound() {
+        return source.getLipschitzBound();
+    }
+
+    @Override
+    public float getMinGradient() {
+        return source.getMinGradient();
+    }
 }
@@ -1,5 +1,10 @@
 package org.betterx.bclib.sdf.operator;
 
+import org.betterx.bclib.sdf.CompiledSDF;
+import org.betterx.bclib.sdf.CompiledSource;
+
+import net.minecraft.world.phys.AABB;
+
 public class SDFScale extends SDFUnary {
     private float scale;
 
@@ -12,4 +17,39 @@ public class SDFScale extends SDFUnary {
     public float getDistance(float x, float y, float z) {
         return source.getDistance(x / scale, y / scale, z / scale) * scale;
     }
+
+    @Override
+    public CompiledSDF compile() {
+        final CompiledSDF source = this.source.compile();
+        final float scale = this.scale;
+        return (x, y, z) -> source.getDistance(x / scale, y / scale, z / scale) * scale;
+    }
+
+    @Override
+    public CompiledSource compileSource() {
+        final CompiledSource source = this.source.compileSource();
+        if (source instanceof CompiledSource.Constant) return source;
+        final float scale = this.scale;
+        return (x, y, z) -> source.getSource(x / scale, y / scale, z / scale);
+    }
+
+    @Override
+    public AABB getBoundingBox() {
+        final AABB box = source.getBoundingBox();
+        if (box == null || scale <= 0) return null;
+        return new AABB(
+                box.minX * scale, box.minY * scale, box.minZ * scale,
+                box.maxX * scale, box.maxY * scale, box.maxZ * scale
+        );
+    }
+
+    @Override
+    public float getLipschitzBound() {
+        return source.getLipschitzBound();
+    }
+
+    @Override
+    public float getMinGradient() {
+        return source.getMinGradient();
+    }
 }
@@ -1,5 +1,10 @@
 package org.betterx.bclib.sdf.operator;
 
+import org.betterx.bclib.sdf.CompiledSDF;
+import org.betterx.bclib.sdf.CompiledSource;
+
+import net.minecraft.world.phys.AABB;
+
 public class SDFScale3D extends SDFUnary {
     private float x;
     private float y;
@@ -16,4 +21,47 @@ public class SDFScale3D extends SDFUnary {
     public float getDistance(float x, float y, float z) {
         return source.getDistance(x / this.x, y / this.y, z / this.z);
     }
+
+    @Override
+    public CompiledSDF compile() {
+        final CompiledSDF source = this.source.compile();
+        final float sx = this.x;
+        final float sy = this.y;
+        final float sz = this.z;
+        return (x, y, z) -> source.getDistance(x / sx, y / sy, z / sz);
+    }
+
+    @Override
+    public CompiledSource compileSource() {
+        final CompiledSource source = this.source.compileSource();
+        if (source instanceof CompiledSource.Constant) return source;
+        final float sx = this.x;
+        final float sy = this.y;
+        final float sz = this.z;
+        return (x, y, z) -> source.getSource(x / sx, y / sy, z / sz);
+    }
+
+    @Override
+    public AABB getBoundingBox() {
+        final AABB box = source.getBoundingBox();
+        if (box == null) return null;
+        return new AABB(
+                box.minX * x, box.minY * y, box.minZ * z,
+                box.maxX * x, box.maxY * y, box.maxZ * z
+        );
+    }
+
+    @Override
+    public float getLipschitzBound() {
+        //a non uniform scale stretches the distance along the axis with the smallest factor
+        final float min = Math.min(Math.abs(x), Math.min(Math.abs(y), Math.abs(z)));
+        return source.getLipschitzBound() / min;
+    }
+
+    @Override
+    public float getMinGradient() {
+        //the distance is not rescaled, so it grows slower along the axis with the largest factor
+        final float max = Math.max(Math.abs(x), Math.max(Math.abs(y), Math.abs(z)));
+        return source.getMinGradient() / max;
+    }
 }
@@ -1,6 +1,9 @@
 package org.betterx.bclib.sdf.operator;
 
+import org.betterx.bclib.sdf.CompiledSDF;
+
 import net.minecraft.util.Mth;
+import net.minecraft.world.phys.AABB;
 
 public class SDFSmoothSubtraction extends SDFBinary {
     private float radius;
@@ -15,7 +18,30 @@ public class SDFSmoothSubtraction extends SDFBinary {
         float a = this.sourceA.getDistance(x, y, z);
         float b = this.sourceB.getDistance(x, y, z);
         this.selectValue(a, b);
+        return smoothSubtract(a, b, radius);
+    }
+
+    @Override
+    public CompiledSDF compile() {
+        final CompiledSDF sourceA = this.sourceA.compile();
+        final CompiledSDF sourceB = this.sourceB.compile();
+        final float radius = this.radius;
+        return (x, y, z) -> smoothSubtract(sourceA.getDistance(x, y, z), sourceB.getDistance(x, y, z), radius);
+    }
+
+    private static float smoothSubtract(float a, float b, float radius) {
         float h = Mth.clamp(0.5F - 0.5F * (b + a) / radius, 0F, 1F);
         return Mth.lerp(h, b, -a) + radius * h * (1F - h);
     }
+
+    @Override
+    public AABB getBoundingBox() {
+        //this operator removes A from B
+        return sourceB.getBoundingBox();
+    }
+
+    @Override
+    public float getLipschitzBound() {
+        return getSourceLipschitzBound();
+    }
 }
@@ -1,6 +1,9 @@
 package org.betterx.bclib.sdf.operator;
 
+import org.betterx.bclib.sdf.CompiledSDF;
+
 import net.minecraft.util.Mth;
+import net.minecraft.world.phys.AABB;
 
 public class SDFSmoothUnion extends SDFBinary {
     private float radius;
@@ -15,7 +18,34 @@ public class SDFSmoothUnion extends SDFBinary {
         float a = this.sourceA.getDistance(x, y, z);
         float b = this.sourceB.getDistance(x, y, z);
         this.selectValue(a, b);
+        return smoothMin(a, b, radius);
+    }
+
+    @Override
+    public CompiledSDF compile() {
+        final CompiledSDF sourceA = this.sourceA.compile();
+        final CompiledSDF sourceB = this.sourceB.compile();
+        final float radius = this.radius;
+        return (x, y, z) -> smoothMin(sourceA.getDistance(x, y, z), sourceB.getDistance(x, y, z), radius);
+    }
+
+    private static float smoothMin(float a, float b, float radius) {
         float h = Mth.clamp(0.5F + 0.5F * (b - a) / radius, 0F, 1F);
         return Mth.lerp(h, b, a) - radius * h * (1F - h);
     }
+
+    @Override
+    public AABB getBoundingBox() {
+        //the smooth minimum is at most radius / 4 below the regular minimum
+        final float distance = Math.abs(radius) * 0.25F;
+        final AABB a = inflate(sourceA.getBoundingBox(), distance, sourceA.getMinGradient());
+        final AABB b = inflate(sourceB.getBoundingBox(), distance, sourceB.getMinGradient());
+        return a == null || b == null ? null : a.minmax(b);
+    }
+
+    @Override
+    public float getLipschitzBound() {
+        //the blend weights sum up to one, so the gradient never exceeds the one of the sources
+        return getSourceLipschitzBound();
+    }
 }
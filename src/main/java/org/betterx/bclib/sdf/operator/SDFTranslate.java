@@ -1,5 +1,10 @@
 package org.betterx.bclib.sdf.operator;
 
+import org.betterx.bclib.sdf.CompiledSDF;
+import org.betterx.bclib.sdf.CompiledSource;
+
+import net.minecraft.world.phys.AABB;
+
 public class SDFTranslate extends SDFUnary {
     float x;
     float y;
@@ -16,4 +21,39 @@ public class SDFTranslate extends SDFUnary {
     public float getDistance(float x, float y, float z) {
         return source.getDistance(x - this.x, y - this.y, z - this.z);
     }
+
+    @Override
+    public CompiledSDF compile() {
+        final CompiledSDF source = this.source.compile();
+        final float dx = this.x;
+        final float dy = this.y;
+        final float dz = this.z;
+        return (x, y, z) -> source.getDistance(x - dx, y - dy, z - dz);
+    }
+
+    @Override
+    public CompiledSource compileSource() {
+        final CompiledSource source = this.source.compileSource();
+        if (source instanceof CompiledSource.Constant) return source;
+        final float dx = this.x;
+        final float dy = this.y;
+        final float dz = this.z;
+        return (x, y, z) -> source.getSource(x - dx, y - dy, z - dz);
+    }
+
+    @Override
+    public AABB getBoundingBox() {
+        final AABB box = source.getBoundingBox();
+        return box == null ? null : box.move(x, y, z);
+    }
+
+    @Override
+    public float getLipschitzBound() {
+        return source.getLipschitzBound();
+    }
+
+    @Override
+    public float getMinGradient() {
+        return source.getMinGradient();
+    }
 }
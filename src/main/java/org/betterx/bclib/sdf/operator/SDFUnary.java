@@ -1,5 +1,6 @@
 package org.betterx.bclib.sdf.operator;
 
+import org.betterx.bclib.sdf.CompiledSource;
 import org.betterx.bclib.sdf.SDF;
 
 import net.minecraft.core.BlockPos;
@@ -17,4 +18,15 @@ public abstract class SDFUnary extends SDF {
     public BlockState getBlockState(BlockPos pos) {
         return source.getBlockState(pos);
     }
+
+    /**
+     * A source that does not depend on the position is returned as it is. Otherwise this falls back to
+     * the stateful selection, as the operator may move the position. Operators that do not move the
+     * position can return the selection of their source, the others have to apply their transformation.
+     */
+    @Override
+    public CompiledSource compileSource() {
+        final CompiledSource source = this.source.compileSource();
+        return source instanceof CompiledSource.Constant ? source : super.compileSource();
+    }
 }
@@ -1,7 +1,10 @@
 package org.betterx.bclib.sdf.operator;
 
+import org.betterx.bclib.sdf.CompiledSDF;
 import org.betterx.bclib.util.MHelper;
 
+import net.minecraft.world.phys.AABB;
+
 public class SDFUnion extends SDFBinary {
     @Override
     public float getDistance(float x, float y, float z) {
@@ -10,4 +13,28 @@ public class SDFUnion extends SDFBinary {
         this.selectValue(a, b);
         return MHelper.min(a, b);
     }
+
+    @Override
+    public CompiledSDF compile() {
+        final CompiledSDF a = sourceA.compile();
+        final CompiledSDF b = sourceB.compile();
+        return (x, y, z) -> MHelper.min(a.getDistance(x, y, z), b.getDistance(x, y, z));
+    }
+
+    @Override
+    public AABB getBoundingBox() {
+        final AABB a = sourceA.getBoundingBox();
+        final AABB b = sourceB.getBoundingBox();
+        return a == null || b == null ? null : a.minmax(b);
+    }
+
+    @Override
+    public float getLipschitzBound() {
+        return getSourceLipschitzBound();
+    }
+
+    @Override
+    public float getMinGradient() {
+        return Math.min(sourceA.getMinGradient(), sourceB.getMinGradient());
+    }
 }
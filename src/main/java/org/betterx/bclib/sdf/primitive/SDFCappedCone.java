@@ -1,8 +1,10 @@
 package org.betterx.bclib.sdf.primitive;
 
+import org.betterx.bclib.sdf.CompiledSDF;
 import org.betterx.bclib.util.MHelper;
 
 import net.minecraft.util.Mth;
+import net.minecraft.world.phys.AABB;
 
 public class SDFCappedCone extends SDFPrimitive {
     private float radius1;
@@ -26,6 +28,18 @@ public class SDFCappedCone extends SDFPrimitive {
 
     @Override
     public float getDistance(float x, float y, float z) {
+        return getDistance(x, y, z, radius1, radius2, height);
+    }
+
+    @Override
+    public CompiledSDF compile() {
+        final float radius1 = this.radius1;
+        final float radius2 = this.radius2;
+        final float height = this.height;
+        return (x, y, z) -> getDistance(x, y, z, radius1, radius2, height);
+    }
+
+    private static float getDistance(float x, float y, float z, float radius1, float radius2, float height) {
         float qx = MHelper.length(x, z);
         float k2x = radius2 - radius1;
         float k2y = 2 * height;
@@ -41,4 +55,21 @@ public class SDFCappedCone extends SDFPrimitive {
         float s = (cbx < 0F && cay < 0F) ? -1F : 1F;
         return s * (float) Math.sqrt(MHelper.min(MHelper.dot(cax, cay, cax, cay), MHelper.dot(cbx, cby, cbx, cby)));
     }
+
+    @Override
+    public AABB getBoundingBox() {
+        final float radius = MHelper.max(radius1, radius2);
+        return new AABB(-radius, -height, -radius, radius, height, radius);
+    }
+
+    @Override
+    public float getLipschitzBound() {
+        return 1;
+    }
+
+    @Override
+    public float getMinGradient() {
+        //exact distance
+        return 1;
+    }
 }
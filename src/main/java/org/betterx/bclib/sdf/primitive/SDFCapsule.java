@@ -1,8 +1,10 @@
 package org.betterx.bclib.sdf.primitive;
 
+import org.betterx.bclib.sdf.CompiledSDF;
 import org.betterx.bclib.util.MHelper;
 
 import net.minecraft.util.Mth;
+import net.minecraft.world.phys.AABB;
 
 public class SDFCapsule extends SDFPrimitive {
     private float radius;
@@ -20,6 +22,33 @@ public class SDFCapsule extends SDFPrimitive {
 
     @Override
     public float getDistance(float x, float y, float z) {
+        return getDistance(x, y, z, radius, height);
+    }
+
+    @Override
+    public CompiledSDF compile() {
+        final float radius = this.radius;
+        final float height = this.height;
+        return (x, y, z) -> getDistance(x, y, z, radius, height);
+    }
+
+    private static float getDistance(float x, float y, float z, float radius, float height) {
         return MHelper.length(x, y - Mth.clamp(y, 0, height), z) - radius;
     }
+
+    @Override
+    public AABB getBoundingBox() {
+        return new AABB(0, 0, 0, 0, height, 0).inflate(radius);
+    }
+
+    @Override
+    public float getLipschitzBound() {
+        return 1;
+    }
+
+    @Override
+    public float getMinGradient() {
+        //exact distance
+        return 1;
+    }
 }
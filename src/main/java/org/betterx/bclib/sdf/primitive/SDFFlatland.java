@@ -1,8 +1,26 @@
 package org.betterx.bclib.sdf.primitive;
 
+import org.betterx.bclib.sdf.CompiledSDF;
+
 public class SDFFlatland extends SDFPrimitive {
     @Override
     public float getDistance(float x, float y, float z) {
         return y;
     }
+
+    @Override
+    public CompiledSDF compile() {
+        return (x, y, z) -> y;
+    }
+
+    @Override
+    public float getLipschitzBound() {
+        return 1;
+    }
+
+    @Override
+    public float getMinGradient() {
+        //exact distance
+        return 1;
+    }
 }
@@ -1,7 +1,10 @@
 package org.betterx.bclib.sdf.primitive;
 
+import org.betterx.bclib.sdf.CompiledSDF;
 import org.betterx.bclib.util.MHelper;
 
+import net.minecraft.world.phys.AABB;
+
 public class SDFHexPrism extends SDFPrimitive {
     private float radius;
     private float height;
@@ -18,9 +21,38 @@ public class SDFHexPrism extends SDFPrimitive {
 
     @Override
     public float getDistance(float x, float y, float z) {
+        return getDistance(x, y, z, radius, height);
+    }
+
+    @Override
+    public CompiledSDF compile() {
+        final float radius = this.radius;
+        final float height = this.height;
+        return (x, y, z) -> getDistance(x, y, z, radius, height);
+    }
+
+    private static float getDistance(float x, float y, float z, float radius, float height) {
         float px = Math.abs(x);
         float py = Math.abs(y);
         float pz = Math.abs(z);
         return MHelper.max(py - height, MHelper.max((px * 0.866025F + pz * 0.5F), pz) - radius);
     }
+
+    @Override
+    public AABB getBoundingBox() {
+        //the corners of the hexagon are on the x-axis
+        final float radiusX = radius / 0.866025F;
+        return new AABB(-radiusX, -height, -radius, radiusX, height, radius);
+    }
+
+    @Override
+    public float getLipschitzBound() {
+        return 1;
+    }
+
+    @Override
+    public float getMinGradient() {
+        //not an exact distance, past the corners the distance only grows by cos(30°) per block along x
+        return (float) Math.cos(Math.PI / 6);
+    }
 }
@@ -1,8 +1,10 @@
 package org.betterx.bclib.sdf.primitive;
 
+import org.betterx.bclib.sdf.CompiledSDF;
 import org.betterx.bclib.util.MHelper;
 
 import net.minecraft.util.Mth;
+import net.minecraft.world.phys.AABB;
 
 public class SDFLine extends SDFPrimitive {
     private float radius;
@@ -34,6 +36,27 @@ public class SDFLine extends SDFPrimitive {
 
     @Override
     public float getDistance(float x, float y, float z) {
+        return getDistance(x, y, z, x1, y1, z1, x2, y2, z2, radius);
+    }
+
+    @Override
+    public CompiledSDF compile() {
+        final float x1 = this.x1;
+        final float y1 = this.y1;
+        final float z1 = this.z1;
+        final float x2 = this.x2;
+        final float y2 = this.y2;
+        final float z2 = this.z2;
+        final float radius = this.radius;
+        return (x, y, z) -> getDistance(x, y, z, x1, y1, z1, x2, y2, z2, radius);
+    }
+
+    private static float getDistance(
+            float x, float y, float z,
+            float x1, float y1, float z1,
+            float x2, float y2, float z2,
+            float radius
+    ) {
         float pax = x - x1;
         float pay = y - y1;
         float paz = z - z1;
@@ -47,4 +70,20 @@ public class SDFLine extends SDFPrimitive {
         float h = Mth.clamp(dpb / dbb, 0F, 1F);
         return MHelper.length(pax - bax * h, pay - bay * h, paz - baz * h) - radius;
     }
+
+    @Override
+    public AABB getBoundingBox() {
+        return new AABB(x1, y1, z1, x2, y2, z2).inflate(radius);
+    }
+
+    @Override
+    public float getLipschitzBound() {
+        return 1;
+    }
+
+    @Override
+    public float getMinGradient() {
+        //exact distance
+        return 1;
+    }
 }
@@ -1,8 +1,10 @@
 package org.betterx.bclib.sdf.primitive;
 
+import org.betterx.bclib.sdf.CompiledSDF;
 import org.betterx.bclib.util.MHelper;
 
 import net.minecraft.util.Mth;
+import net.minecraft.world.phys.AABB;
 
 public class SDFPie extends SDFPrimitive {
     private float sin;
@@ -22,6 +24,18 @@ public class SDFPie extends SDFPrimitive {
 
     @Override
     public float getDistance(float x, float y, float z) {
+        return getDistance(x, y, z, sin, cos, radius);
+    }
+
+    @Override
+    public CompiledSDF compile() {
+        final float sin = this.sin;
+        final float cos = this.cos;
+        final float radius = this.radius;
+        return (x, y, z) -> getDistance(x, y, z, sin, cos, radius);
+    }
+
+    private static float getDistance(float x, float y, float z, float sin, float cos, float radius) {
         float px = Math.abs(x);
         float l = MHelper.length(px, y, z) - radius;
         float m = MHelper.dot(px, z, sin, cos);
@@ -29,4 +43,20 @@ public class SDFPie extends SDFPrimitive {
         m = MHelper.length(px - sin * m, z - cos * m);
         return MHelper.max(l, m * Math.signum(cos * px - sin * z));
     }
+
+    @Override
+    public AABB getBoundingBox() {
+        return new AABB(-radius, -radius, -radius, radius, radius, radius);
+    }
+
+    @Override
+    public float getLipschitzBound() {
+        return 1;
+    }
+
+    @Override
+    public float getMinGradient() {
+        //exact distance
+        return 1;
+    }
 }
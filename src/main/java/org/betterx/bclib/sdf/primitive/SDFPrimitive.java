@@ -1,5 +1,6 @@
 package org.betterx.bclib.sdf.primitive;
 
+import org.betterx.bclib.sdf.CompiledSource;
 import org.betterx.bclib.sdf.SDF;
 
 import net.minecraft.core.BlockPos;
@@ -10,13 +11,17 @@ import java.util.function.Function;
 
 public abstract class SDFPrimitive extends SDF {
     protected Function<BlockPos, BlockState> placerFunction;
+    //the block that is placed everywhere, null if it depends on the position
+    private BlockState fixedState;
 
     public SDFPrimitive setBlock(Function<BlockPos, BlockState> placerFunction) {
         this.placerFunction = placerFunction;
+        this.fixedState = null;
         return this;
     }
 
     public SDFPrimitive setBlock(BlockState state) {
+        this.fixedState = state;
         this.placerFunction = (pos) -> {
             return state;
         };
@@ -24,6 +29,7 @@ public abstract class SDFPrimitive extends SDF {
     }
 
     public SDFPrimitive setBlock(Block block) {
+        this.fixedState = block.defaultBlockState();
         this.placerFunction = (pos) -> {
             return block.defaultBlockState();
         };
@@ -33,6 +39,11 @@ public abstract class SDFPrimitive extends SDF {
     public BlockState getBlockState(BlockPos pos) {
         return placerFunction.apply(pos);
     }
+
+    @Override
+    public CompiledSource compileSource() {
+        return new CompiledSource.Constant(this, fixedState);
+    }
 	
 	/*public abstract CompoundTag toNBT(CompoundTag root) {
 		
@@ -1,7 +1,10 @@
 package org.betterx.bclib.sdf.primitive;
 
+import org.betterx.bclib.sdf.CompiledSDF;
 import org.betterx.bclib.util.MHelper;
 
+import net.minecraft.world.phys.AABB;
+
 public class SDFSphere extends SDFPrimitive {
     private float radius;
 
@@ -14,4 +17,26 @@ public class SDFSphere extends SDFPrimitive {
     public float getDistance(float x, float y, float z) {
         return MHelper.length(x, y, z) - radius;
     }
+
+    @Override
+    public CompiledSDF compile() {
+        final float radius = this.radius;
+        return (x, y, z) -> MHelper.length(x, y, z) - radius;
+    }
+
+    @Override
+    public AABB getBoundingBox() {
+        return new AABB(-radius, -radius, -radius, radius, radius, radius);
+    }
+
+    @Override
+    public float getLipschitzBound() {
+        return 1;
+    }
+
+    @Override
+    public float getMinGradient() {
+        //exact distance
+        return 1;
+    }
 }
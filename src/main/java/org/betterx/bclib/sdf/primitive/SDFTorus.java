@@ -1,7 +1,10 @@
 package org.betterx.bclib.sdf.primitive;
 
+import org.betterx.bclib.sdf.CompiledSDF;
 import org.betterx.bclib.util.MHelper;
 
+import net.minecraft.world.phys.AABB;
+
 public class SDFTorus extends SDFPrimitive {
     private float radiusSmall;
     private float radiusBig;
@@ -21,4 +24,28 @@ public class SDFTorus extends SDFPrimitive {
         float nx = MHelper.length(x, z) - radiusBig;
         return MHelper.length(nx, y) - radiusSmall;
     }
+
+    @Override
+    public CompiledSDF compile() {
+        final float radiusSmall = this.radiusSmall;
+        final float radiusBig = this.radiusBig;
+        return (x, y, z) -> MHelper.length(MHelper.length(x, z) - radiusBig, y) - radiusSmall;
+    }
+
+    @Override
+    public AABB getBoundingBox() {
+        final float radius = radiusBig + radiusSmall;
+        return new AABB(-radius, -radiusSmall, -radius, radius, radiusSmall, radius);
+    }
+
+    @Override
+    public float getLipschitzBound() {
+        return 1;
+    }
+
+    @Override
+    public float getMinGradient() {
+        //exact distance
+        return 1;
+    }
 }
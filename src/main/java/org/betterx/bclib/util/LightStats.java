@@ -0,0 +1,26 @@
+package org.betterx.bclib.util;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts how often the light engine looked up the stored light level of a section that has no
+ * {@link net.minecraft.world.level.chunk.DataLayer}. Those lookups would fail in vanilla and are
+ * answered with a light level of 0 instead.
+ */
+public final class LightStats {
+    private static final LongAdder MISSING_LAYERS = new LongAdder();
+
+    private LightStats() {
+    }
+
+    public static void countMissingLayer() {
+        MISSING_LAYERS.increment();
+    }
+
+    /**
+     * @return The number of lookups that hit a missing layer since the game was started
+     */
+    public static long getMissingLayerCount() {
+        return MISSING_LAYERS.sum();
+    }
+}
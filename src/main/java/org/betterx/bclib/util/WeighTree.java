@@ -2,16 +2,55 @@ package org.betterx.bclib.util;
 
 import net.minecraft.world.level.levelgen.WorldgenRandom;
 
+import java.util.Arrays;
 import java.util.Locale;
 import java.util.Random;
 
+/**
+ * Picks the value of a {@link WeightedList} (with summed weights) for a random number in
+ * {@code [0, maxWeight)}: the first value whose summed weight is above the number.
+ * <p>
+ * The summed weights are kept in a flat array together with a guide table that splits
+ * {@code [0, maxWeight)} into {@code size} equal parts and stores the first candidate of each part,
+ * so a draw usually needs one or two comparisons instead of walking a tree of separators. For sorted
+ * summed weights this picks the same value as the tree, so seeds keep their results. Lists that are not
+ * sorted (negative weights) still use the tree.
+ */
 public class WeighTree<T> {
     private final float maxWeight;
+    private final Object[] values;
+    private final float[] weights;
+    private final int[] guide;
+    private final float guideScale;
     private final Node root;
 
     public WeighTree(WeightedList<T> list) {
         maxWeight = list.getMaxWeight();
-        root = getNode(list);
+        final int size = list.size();
+        values = new Object[size];
+        weights = new float[size];
+        boolean sorted = true;
+        for (int i = 0; i < size; i++) {
+            values[i] = list.get(i);
+            weights[i] = list.getWeight(i);
+            if (i > 0 && weights[i] < weights[i - 1]) sorted = false;
+        }
+
+        if (sorted && size > 0 && maxWeight > 0) {
+            guideScale = size / maxWeight;
+            guide = new int[size];
+            int index = 0;
+            for (int part = 0; part < size; part++) {
+                final float start = part / guideScale;
+                while (index < size - 1 && !(start < weights[index])) index++;
+                guide[part] = index;
+            }
+            root = null;
+        } else {
+            guideScale = 0;
+            guide = null;
+            root = getNode(list);
+        }
     }
 
     /**
@@ -20,8 +59,19 @@ public class WeighTree<T> {
      * @param random - {@link Random}.
      * @return {@link T} value.
      */
+    @SuppressWarnings("unchecked")
     public T get(WorldgenRandom random) {
-        return root.get(random.nextFloat() * maxWeight);
+        final float value = random.nextFloat() * maxWeight;
+        if (root != null) {
+            return root.get(value);
+        }
+
+        final int last = weights.length - 1;
+        int index = guide[Math.max(0, Math.min((int) (value * guideScale), last))];
+        //the part is only an estimate, rounding can put the value into a neighbouring one
+        while (index > 0 && value < weights[index - 1]) index--;
+        while (index < last && !(value < weights[index])) index++;
+        return (T) values[index];
     }
 
     private Node getNode(WeightedList<T> list) {
@@ -86,6 +136,9 @@ public class WeighTree<T> {
 
     @Override
     public String toString() {
-        return root.toString();
+        if (root != null) {
+            return root.toString();
+        }
+        return String.format(Locale.ROOT, "[%s, %s]", Arrays.toString(weights), Arrays.toString(values));
     }
 }
@@ -1,21 +1,30 @@
 package org.betterx.worlds.together.util;
 
 import org.betterx.bclib.BCLib;
+import org.betterx.worlds.together.WorldsTogether;
 
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.packs.PackType;
 import net.minecraft.server.packs.resources.Resource;
 import net.minecraft.server.packs.resources.ResourceManager;
+import net.minecraft.util.profiling.ProfilerFiller;
 
 import net.fabricmc.fabric.api.resource.ResourceManagerHelper;
-import net.fabricmc.fabric.api.resource.SimpleSynchronousResourceReloadListener;
+import net.fabricmc.fabric.api.resource.SimpleResourceReloadListener;
 
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
 
 import java.io.Reader;
-import java.util.HashMap;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 public class DatapackConfigs {
     @FunctionalInterface
@@ -28,13 +37,44 @@ public class DatapackConfigs {
         void onReload();
     }
 
+    private record ConfigFile(String modID, String fileName) {
+        boolean matches(ResourceLocation id) {
+            return id.getNamespace().equals(modID) && id.getPath().endsWith(fileName);
+        }
+    }
+
+    private record Registration(ConfigFile file, DatapackConfigReloadPrepare prepare,
+                                DatapackConfigReloadHandler handler) {
+    }
+
+    /**
+     * All config files of one reload, parsed once and shared by every handler. Handlers must not
+     * modify the json they receive.
+     */
+    private record Snapshot(WeakReference<ResourceManager> manager, Set<ConfigFile> files,
+                            Map<ResourceLocation, JsonObject> roots) {
+        boolean covers(ResourceManager manager, ConfigFile file) {
+            return this.manager.get() == manager && files.contains(file);
+        }
+
+        void run(ConfigFile file, DatapackConfigReloadHandler handler) {
+            roots.forEach((id, root) -> {
+                if (file.matches(id)) DatapackConfigs.run(id, root, handler);
+            });
+        }
+    }
+
     private static DatapackConfigs INSTANCE = new DatapackConfigs();
 
     public static DatapackConfigs instance() {
         return INSTANCE;
     }
 
-    private Map<ResourceLocation, DatapackConfigReloadHandler> handlers = new HashMap<>();
+    private final List<Registration> registrations = new ArrayList<>();
+    //files that are parsed on every reload, even if no handler is registered for them
+    private final Set<ConfigFile> indexed = new LinkedHashSet<>();
+    private volatile Snapshot snapshot;
+    private boolean hasListener;
 
     public void register(
             String modID,
@@ -48,30 +88,28 @@ public class DatapackConfigs {
         );
     }
 
-    public void register(
+    public synchronized void register(
             String modID,
             String fileName,
             DatapackConfigReloadPrepare prepare,
             DatapackConfigReloadHandler handler
     ) {
-        final ResourceLocation handlerID = new ResourceLocation(
-                modID,
-                "config_manager_" + fileName.replaceAll("/", "_").replaceAll(".", "_")
-        );
-        ResourceManagerHelper
-                .get(PackType.SERVER_DATA)
-                .registerReloadListener(new SimpleSynchronousResourceReloadListener() {
-                    @Override
-                    public ResourceLocation getFabricId() {
-                        return handlerID;
-                    }
+        final ConfigFile file = new ConfigFile(modID, fileName);
+        registrations.add(new Registration(file, prepare, handler));
+        indexed.add(file);
+        registerListener();
+    }
 
-                    @Override
-                    public void onResourceManagerReload(ResourceManager manager) {
-                        prepare.onReload();
-                        runForResources(manager, modID, fileName, handler);
-                    }
-                });
+    /**
+     * Parses the matching files on every reload, so {@link #runForResources} can use them without
+     * listing and parsing the files again.
+     *
+     * @param modID    The namespace of the files
+     * @param fileName The end of the file path
+     */
+    public synchronized void index(String modID, String fileName) {
+        indexed.add(new ConfigFile(modID, fileName));
+        registerListener();
     }
 
     public void runForResources(
@@ -80,21 +118,122 @@ public class DatapackConfigs {
             String fileName,
             DatapackConfigReloadHandler handler
     ) {
+        final ConfigFile file = new ConfigFile(modID, fileName);
+        final Snapshot current = snapshot;
+        if (current != null && current.covers(manager, file)) {
+            current.run(file, handler);
+            return;
+        }
+
         for (Map.Entry<ResourceLocation, Resource> entry : manager.listResources(
                 "config",
-                id -> id.getNamespace().equals(modID) &&
-                        id.getPath().endsWith(fileName)
+                file::matches
         ).entrySet()) {
-            try (Reader reader = entry.getValue().openAsReader()) {
-                final JsonObject obj = JsonParser.parseReader(reader).getAsJsonObject();
-                if (obj != null)
-                    handler.onReload(entry.getKey(), obj);
-            } catch (Exception e) {
-                BCLib.LOGGER.error(
-                        "Error occurred while loading resource json " + entry.getKey(),
-                        e
-                );
-            }
+            final JsonObject obj = parse(entry.getKey(), entry.getValue());
+            if (obj != null)
+                run(entry.getKey(), obj, handler);
+        }
+    }
+
+    private static void run(ResourceLocation id, JsonObject root, DatapackConfigReloadHandler handler) {
+        try {
+            handler.onReload(id, root);
+        } catch (Exception e) {
+            BCLib.LOGGER.error(
+                    "Error occurred while loading resource json " + id,
+                    e
+            );
+        }
+    }
+
+    private static JsonObject parse(ResourceLocation id, Resource resource) {
+        try (Reader reader = resource.openAsReader()) {
+            return JsonParser.parseReader(reader).getAsJsonObject();
+        } catch (Exception e) {
+            BCLib.LOGGER.error(
+                    "Error occurred while loading resource json " + id,
+                    e
+            );
+            return null;
+        }
+    }
+
+    private void registerListener() {
+        if (hasListener) return;
+        hasListener = true;
+        ResourceManagerHelper
+                .get(PackType.SERVER_DATA)
+                .registerReloadListener(new SimpleResourceReloadListener<Snapshot>() {
+                    @Override
+                    public ResourceLocation getFabricId() {
+                        return WorldsTogether.makeID("datapack_configs");
+                    }
+
+                    @Override
+                    public CompletableFuture<Snapshot> load(
+                            ResourceManager manager,
+                            ProfilerFiller profiler,
+                            Executor executor
+                    ) {
+                        return loadSnapshot(manager, executor);
+                    }
+
+                    @Override
+                    public CompletableFuture<Void> apply(
+                            Snapshot data,
+                            ResourceManager manager,
+                            ProfilerFiller profiler,
+                            Executor executor
+                    ) {
+                        return CompletableFuture.runAsync(() -> dispatch(data), executor);
+                    }
+                });
+    }
+
+    //lists the config folder once and parses all files in parallel
+    private CompletableFuture<Snapshot> loadSnapshot(ResourceManager manager, Executor executor) {
+        final Set<ConfigFile> files;
+        synchronized (this) {
+            files = Set.copyOf(indexed);
+        }
+
+        return CompletableFuture
+                .supplyAsync(() -> manager.listResources(
+                        "config",
+                        id -> files.stream().anyMatch(file -> file.matches(id))
+                ), executor)
+                .thenCompose(resources -> {
+                    final List<ResourceLocation> ids = new ArrayList<>(resources.keySet());
+                    final List<CompletableFuture<JsonObject>> parsed = new ArrayList<>(ids.size());
+                    for (ResourceLocation id : ids) {
+                        final Resource resource = resources.get(id);
+                        parsed.add(CompletableFuture.supplyAsync(() -> parse(id, resource), executor));
+                    }
+
+                    return CompletableFuture
+                            .allOf(parsed.toArray(CompletableFuture[]::new))
+                            .thenApply(v -> {
+                                final Map<ResourceLocation, JsonObject> roots = new LinkedHashMap<>();
+                                for (int i = 0; i < ids.size(); i++) {
+                                    final JsonObject root = parsed.get(i).join();
+                                    if (root != null) roots.put(ids.get(i), root);
+                                }
+                                //published before the reload barrier, so other listeners can use it in their apply phase
+                                final Snapshot result = new Snapshot(new WeakReference<>(manager), files, roots);
+                                snapshot = result;
+                                return result;
+                            });
+                });
+    }
+
+    private void dispatch(Snapshot data) {
+        final List<Registration> handlers;
+        synchronized (this) {
+            handlers = List.copyOf(registrations);
+        }
+        for (Registration registration : handlers) {
+            registration.prepare.onReload();
+            data.run(registration.file, registration.handler);
         }
     }
 }